@@ -44,6 +44,7 @@ import dev.langchain4j.agentic.agent.ChatMessagesAccess;
 import dev.langchain4j.agentic.declarative.ParallelMapperAgent;
 import dev.langchain4j.agentic.internal.InternalAgent;
 import dev.langchain4j.agentic.scope.AgenticScopeAccess;
+import dev.langchain4j.observability.api.event.AiServiceResponseReceivedEvent;
 import dev.langchain4j.observability.api.listener.AiServiceResponseReceivedListener;
 import dev.langchain4j.service.IllegalConfigurationException;
 import dev.langchain4j.service.memory.ChatMemoryAccess;
@@ -889,6 +890,10 @@ public class AgenticProcessor {
      *         super(var1);
      *     }
      *
+     *     public Class getEventClass() {
+     *         return AiServiceResponseReceivedEvent.class;
+     *     }
+     *
      *     static {
      *         try {
      *             Class[] var0 = new Class[] { CarInfo.class, Integer.class, FeedbackAnalysisResults.class, String.class };
@@ -952,6 +957,14 @@ public class AgenticProcessor {
                 ctor.returnVoid();
             }
 
+            if (isLeaf) {
+                // the class of the events received by a leaf agent is known at build time, no need to ask the agent
+                try (MethodCreator mc = cc.getMethodCreator("getEventClass", Class.class)) {
+                    mc.setModifiers(Modifier.PUBLIC);
+                    mc.returnValue(mc.loadClass(AiServiceResponseReceivedEvent.class));
+                }
+            }
+
             FieldDescriptor handlerField = FieldDescriptor.of(implClassName, "agent",
                     InternalAgent.class.getName());
 
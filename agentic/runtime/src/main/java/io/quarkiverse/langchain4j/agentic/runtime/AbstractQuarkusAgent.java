@@ -79,8 +79,14 @@ public abstract class AbstractQuarkusAgent implements InternalAgent, AgenticScop
         this.agentProxy = proxy;
     }
 
-    private Object invokeOnAgent(Method method, Object[] args) throws Throwable {
-        return ((InvocationHandler) agent).invoke(this, method, args);
+    private Object invokeOnAgent(Method method, Object[] args) {
+        try {
+            return ((InvocationHandler) agent).invoke(this, method, args);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
     }
 
     // InternalAgent / AgentInstance delegation
@@ -194,25 +200,13 @@ public abstract class AbstractQuarkusAgent implements InternalAgent, AgenticScop
 
     @Override
     public AgenticScopeOwner withAgenticScope(DefaultAgenticScope scope) {
-        try {
-            Object result = invokeOnAgent(METHOD_withAgenticScope, new Object[] { scope });
-            return (AgenticScopeOwner) AgentClassCreateInfo.resolveAgentProxy(result, this, agentProxy);
-        } catch (RuntimeException | Error e) {
-            throw e;
-        } catch (Throwable e) {
-            throw new RuntimeException(e);
-        }
+        Object result = invokeOnAgent(METHOD_withAgenticScope, new Object[] { scope });
+        return (AgenticScopeOwner) AgentClassCreateInfo.resolveAgentProxy(result, this, agentProxy);
     }
 
     @Override
     public AgenticScopeRegistry registry() {
-        try {
-            return (AgenticScopeRegistry) invokeOnAgent(METHOD_registry, null);
-        } catch (RuntimeException | Error e) {
-            throw e;
-        } catch (Throwable e) {
-            throw new RuntimeException(e);
-        }
+        return (AgenticScopeRegistry) invokeOnAgent(METHOD_registry, null);
     }
 
     @Override
@@ -220,13 +214,7 @@ public abstract class AbstractQuarkusAgent implements InternalAgent, AgenticScop
         if (agent == null) {
             return super.toString();
         }
-        try {
-            return (String) invokeOnAgent(METHOD_toString, null);
-        } catch (RuntimeException | Error e) {
-            throw e;
-        } catch (Throwable e) {
-            throw new RuntimeException(e);
-        }
+        return (String) invokeOnAgent(METHOD_toString, null);
     }
 
     @Override
@@ -234,120 +222,55 @@ public abstract class AbstractQuarkusAgent implements InternalAgent, AgenticScop
         if (agent == null) {
             return super.hashCode();
         }
-        try {
-            return (int) invokeOnAgent(METHOD_hashCode, null);
-        } catch (RuntimeException | Error e) {
-            throw e;
-        } catch (Throwable e) {
-            throw new RuntimeException(e);
-        }
+        return (int) invokeOnAgent(METHOD_hashCode, null);
     }
 
     // ChatMemoryAccess delegation (leaf agents inherit via interface declared on subclass)
 
     public ChatMemory getChatMemory(Object memoryId) {
-        try {
-            return (ChatMemory) invokeOnAgent(METHOD_getChatMemory, new Object[] { memoryId });
-        } catch (RuntimeException | Error e) {
-            throw e;
-        } catch (Throwable e) {
-            throw new RuntimeException(e);
-        }
+        return (ChatMemory) invokeOnAgent(METHOD_getChatMemory, new Object[] { memoryId });
     }
 
     public boolean evictChatMemory(Object memoryId) {
-        try {
-            return (boolean) invokeOnAgent(METHOD_evictChatMemory, new Object[] { memoryId });
-        } catch (RuntimeException | Error e) {
-            throw e;
-        } catch (Throwable e) {
-            throw new RuntimeException(e);
-        }
+        return (boolean) invokeOnAgent(METHOD_evictChatMemory, new Object[] { memoryId });
     }
 
     // ChatMessagesAccess delegation
 
     public UserMessage lastUserMessage(Object memoryId) {
-        try {
-            return (UserMessage) invokeOnAgent(METHOD_lastUserMessage, new Object[] { memoryId });
-        } catch (RuntimeException | Error e) {
-            throw e;
-        } catch (Throwable e) {
-            throw new RuntimeException(e);
-        }
+        return (UserMessage) invokeOnAgent(METHOD_lastUserMessage, new Object[] { memoryId });
     }
 
     public ChatRequest lastChatRequest(Object memoryId) {
-        try {
-            return (ChatRequest) invokeOnAgent(METHOD_lastChatRequest, new Object[] { memoryId });
-        } catch (RuntimeException | Error e) {
-            throw e;
-        } catch (Throwable e) {
-            throw new RuntimeException(e);
-        }
+        return (ChatRequest) invokeOnAgent(METHOD_lastChatRequest, new Object[] { memoryId });
     }
 
     public ChatResponse lastChatResponse(Object memoryId) {
-        try {
-            return (ChatResponse) invokeOnAgent(METHOD_lastChatResponse, new Object[] { memoryId });
-        } catch (RuntimeException | Error e) {
-            throw e;
-        } catch (Throwable e) {
-            throw new RuntimeException(e);
-        }
+        return (ChatResponse) invokeOnAgent(METHOD_lastChatResponse, new Object[] { memoryId });
     }
 
     public void removeLastResponseEvent(Object memoryId) {
-        try {
-            invokeOnAgent(METHOD_removeLastResponseEvent, new Object[] { memoryId });
-        } catch (RuntimeException | Error e) {
-            throw e;
-        } catch (Throwable e) {
-            throw new RuntimeException(e);
-        }
+        invokeOnAgent(METHOD_removeLastResponseEvent, new Object[] { memoryId });
     }
 
-    // AiServiceListener delegation
+    // AiServiceListener delegation (onEvent is called for every event fired by the AI service of a leaf agent,
+    // generated leaf classes override getEventClass() with the event class they are known to listen to)
 
     public Class<?> getEventClass() {
-        try {
-            return (Class<?>) invokeOnAgent(METHOD_getEventClass, null);
-        } catch (RuntimeException | Error e) {
-            throw e;
-        } catch (Throwable e) {
-            throw new RuntimeException(e);
-        }
+        return (Class<?>) invokeOnAgent(METHOD_getEventClass, null);
     }
 
     public void onEvent(AiServiceEvent event) {
-        try {
-            invokeOnAgent(METHOD_onEvent, new Object[] { event });
-        } catch (RuntimeException | Error e) {
-            throw e;
-        } catch (Throwable e) {
-            throw new RuntimeException(e);
-        }
+        invokeOnAgent(METHOD_onEvent, new Object[] { event });
     }
 
     // AgenticScopeAccess delegation (composite agents inherit via interface declared on subclass)
 
     public AgenticScope getAgenticScope(Object memoryId) {
-        try {
-            return (AgenticScope) invokeOnAgent(METHOD_getAgenticScope, new Object[] { memoryId });
-        } catch (RuntimeException | Error e) {
-            throw e;
-        } catch (Throwable e) {
-            throw new RuntimeException(e);
-        }
+        return (AgenticScope) invokeOnAgent(METHOD_getAgenticScope, new Object[] { memoryId });
     }
 
     public boolean evictAgenticScope(Object memoryId) {
-        try {
-            return (boolean) invokeOnAgent(METHOD_evictAgenticScope, new Object[] { memoryId });
-        } catch (RuntimeException | Error e) {
-            throw e;
-        } catch (Throwable e) {
-            throw new RuntimeException(e);
-        }
+        return (boolean) invokeOnAgent(METHOD_evictAgenticScope, new Object[] { memoryId });
     }
 }
@@ -0,0 +1,48 @@
+package io.quarkiverse.langchain4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.Arc;
+
+/**
+ * Measures an agentic workflow, with models answering immediately.
+ * <p>
+ * {@link #leaf()} invokes a single agent, {@link #sequence()} a sequence of two agents sharing an agentic scope, so
+ * that the difference gives the cost added by the orchestration and the delegation between the agents.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AgenticWorkflowBenchmark {
+
+    BenchmarkAgents.Writer writer;
+    BenchmarkAgents.WriterAndEditor writerAndEditor;
+
+    @Setup
+    public void setup() {
+        writer = Arc.container().instance(BenchmarkAgents.Writer.class).get();
+        writerAndEditor = Arc.container().instance(BenchmarkAgents.WriterAndEditor.class).get();
+    }
+
+    @Benchmark
+    public String leaf() {
+        return writer.write("dragons");
+    }
+
+    @Benchmark
+    public String sequence() {
+        return writerAndEditor.write("dragons", "young");
+    }
+}
@@ -0,0 +1,67 @@
+package io.quarkiverse.langchain4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.Arc;
+
+/**
+ * Measures a complete invocation of an AI service method, with a model answering immediately.
+ * <p>
+ * {@link #plain()} is the baseline, the other benchmarks each add a stage to it: the rendering of the system and user
+ * message templates, the input and output guardrails, the tool specifications sent with the request and a tool
+ * execution round trip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AiServiceInvocationBenchmark {
+
+    private static final String TEXT = "Quarkus is a Kubernetes-native Java stack tailored for GraalVM and OpenJDK HotSpot,"
+            + " crafted from the best of breed Java libraries and standards.";
+
+    BenchmarkAssistant assistant;
+    ToolAssistant toolAssistant;
+
+    @Setup
+    public void setup() {
+        assistant = Arc.container().instance(BenchmarkAssistant.class).get();
+        toolAssistant = Arc.container().instance(ToolAssistant.class).get();
+    }
+
+    @Benchmark
+    public String plain() {
+        return assistant.plain(TEXT);
+    }
+
+    @Benchmark
+    public String templated() {
+        return assistant.templated("technical writer", TEXT, 10);
+    }
+
+    @Benchmark
+    public String guarded() {
+        return assistant.guarded(TEXT);
+    }
+
+    @Benchmark
+    public String withTools() {
+        return toolAssistant.chat("benchmark", TEXT);
+    }
+
+    @Benchmark
+    public String toolRoundTrip() {
+        return toolAssistant.chat("benchmark", "Convert 42.5 EUR to USD");
+    }
+}
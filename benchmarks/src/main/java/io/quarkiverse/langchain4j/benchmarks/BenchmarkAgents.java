@@ -0,0 +1,44 @@
+package io.quarkiverse.langchain4j.benchmarks;
+
+import dev.langchain4j.agentic.Agent;
+import dev.langchain4j.agentic.declarative.ChatModelSupplier;
+import dev.langchain4j.agentic.declarative.SequenceAgent;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.service.UserMessage;
+import dev.langchain4j.service.V;
+
+/**
+ * A sequence of two leaf agents backed by the stub model.
+ */
+public class BenchmarkAgents {
+
+    public interface Writer {
+
+        @UserMessage("Write a short text about {{topic}}.")
+        @Agent(description = "Writes a text about the given topic", outputKey = "text")
+        String write(@V("topic") String topic);
+
+        @ChatModelSupplier
+        static ChatModel chatModel() {
+            return new StubChatModel();
+        }
+    }
+
+    public interface Editor {
+
+        @UserMessage("Edit the following text for a {{audience}} audience: {{text}}")
+        @Agent(description = "Edits a text for the given audience", outputKey = "text")
+        String edit(@V("text") String text, @V("audience") String audience);
+
+        @ChatModelSupplier
+        static ChatModel chatModel() {
+            return new StubChatModel();
+        }
+    }
+
+    public interface WriterAndEditor {
+
+        @SequenceAgent(outputKey = "text", subAgents = { Writer.class, Editor.class })
+        String write(@V("topic") String topic, @V("audience") String audience);
+    }
+}
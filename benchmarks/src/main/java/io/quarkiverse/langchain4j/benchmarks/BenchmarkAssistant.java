@@ -0,0 +1,29 @@
+package io.quarkiverse.langchain4j.benchmarks;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import dev.langchain4j.service.SystemMessage;
+import dev.langchain4j.service.UserMessage;
+import dev.langchain4j.service.V;
+import dev.langchain4j.service.guardrail.InputGuardrails;
+import dev.langchain4j.service.guardrail.OutputGuardrails;
+import io.quarkiverse.langchain4j.RegisterAiService;
+
+/**
+ * The methods only differ by the stage they add to the invocation of the model, so comparing their results gives the
+ * cost of each stage.
+ */
+@ApplicationScoped
+@RegisterAiService(chatLanguageModelSupplier = StubChatModel.StubChatModelSupplier.class, chatMemoryProviderSupplier = RegisterAiService.NoChatMemoryProviderSupplier.class)
+public interface BenchmarkAssistant {
+
+    String plain(String message);
+
+    @SystemMessage("You are a {role}. Answer in the language of the user and be concise.")
+    @UserMessage("Summarize the following text in {count} words: {text}")
+    String templated(@V("role") String role, @V("text") String text, @V("count") int count);
+
+    @InputGuardrails(BenchmarkGuardrails.PassThroughInputGuardrail.class)
+    @OutputGuardrails(BenchmarkGuardrails.PassThroughOutputGuardrail.class)
+    String guarded(String message);
+}
@@ -0,0 +1,34 @@
+package io.quarkiverse.langchain4j.benchmarks;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import dev.langchain4j.guardrail.InputGuardrail;
+import dev.langchain4j.guardrail.InputGuardrailRequest;
+import dev.langchain4j.guardrail.InputGuardrailResult;
+import dev.langchain4j.guardrail.OutputGuardrail;
+import dev.langchain4j.guardrail.OutputGuardrailRequest;
+import dev.langchain4j.guardrail.OutputGuardrailResult;
+
+public final class BenchmarkGuardrails {
+
+    private BenchmarkGuardrails() {
+    }
+
+    @ApplicationScoped
+    public static class PassThroughInputGuardrail implements InputGuardrail {
+
+        @Override
+        public InputGuardrailResult validate(InputGuardrailRequest request) {
+            return success();
+        }
+    }
+
+    @ApplicationScoped
+    public static class PassThroughOutputGuardrail implements OutputGuardrail {
+
+        @Override
+        public OutputGuardrailResult validate(OutputGuardrailRequest request) {
+            return success();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.quarkiverse.langchain4j.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.quarkus.runtime.QuarkusApplication;
+import io.quarkus.runtime.annotations.QuarkusMain;
+
+/**
+ * Runs the JMH benchmarks of this module, accepting the usual JMH command line options.
+ * <p>
+ * The benchmarks exercise the beans of this application, so they run inside of it rather than in forked JVMs.
+ * The GC profiler is always enabled, so that each result comes with the memory allocated per operation.
+ */
+@QuarkusMain
+public class BenchmarkMain implements QuarkusApplication {
+
+    @Override
+    public int run(String... args) throws Exception {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        if (commandLineOptions.shouldHelp()) {
+            commandLineOptions.showHelp();
+            return 0;
+        }
+        Options options = new OptionsBuilder()
+                .parent(commandLineOptions)
+                .forks(0)
+                .addProfiler(GCProfiler.class)
+                .build();
+        Runner runner = new Runner(options);
+        if (commandLineOptions.shouldList()) {
+            runner.list();
+        } else {
+            runner.run();
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,16 @@
+package io.quarkiverse.langchain4j.benchmarks;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import dev.langchain4j.agent.tool.P;
+import dev.langchain4j.agent.tool.Tool;
+
+@ApplicationScoped
+public class BenchmarkTools {
+
+    @Tool("Converts an amount of money from a currency to another")
+    public String convert(@P("the amount to convert") double amount, @P("the source currency") String from,
+            @P("the target currency") String to) {
+        return amount * 1.1 + " " + to;
+    }
+}
@@ -0,0 +1,71 @@
+package io.quarkiverse.langchain4j.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import io.quarkiverse.langchain4j.jlama.JlamaEmbeddingModel;
+
+/**
+ * Measures the number of text segments embedded per second by {@link JlamaEmbeddingModel}, with a small BERT model.
+ * <p>
+ * {@link #embedAll()} embeds the segments in a single call, which spreads them over the available cores, while
+ * {@link #embedOneByOne()} embeds them one at a time like an ingestion of single segments does. The model is
+ * downloaded to the Jlama model cache the first time the benchmark runs, and the JVM needs the options listed in the
+ * README.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class JlamaEmbeddingBenchmark {
+
+    private static final int SEGMENTS = 64;
+
+    JlamaEmbeddingModel model;
+    List<TextSegment> segments;
+
+    @Setup
+    public void setup() {
+        model = JlamaEmbeddingModel.builder()
+                .modelName("intfloat/e5-small-v2")
+                .modelCachePath(Optional.empty())
+                .build();
+        segments = new ArrayList<>(SEGMENTS);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments.add(TextSegment.from("Segment " + i + ": Quarkus is a Kubernetes-native Java stack tailored for"
+                    + " GraalVM and OpenJDK HotSpot, crafted from the best of breed Java libraries and standards."));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SEGMENTS)
+    public List<Embedding> embedAll() {
+        return model.embedAll(segments).content();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SEGMENTS)
+    public List<Embedding> embedOneByOne() {
+        List<Embedding> embeddings = new ArrayList<>(SEGMENTS);
+        for (TextSegment segment : segments) {
+            embeddings.add(model.embed(segment).content());
+        }
+        return embeddings;
+    }
+}
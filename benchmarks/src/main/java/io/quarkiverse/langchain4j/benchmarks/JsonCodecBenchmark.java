@@ -0,0 +1,73 @@
+package io.quarkiverse.langchain4j.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ChatMessageDeserializer;
+import dev.langchain4j.data.message.ChatMessageSerializer;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.internal.Json;
+
+/**
+ * Measures the Jackson based codecs installed by the extension: the chat message codec used by the persistent chat
+ * memory stores, and the JSON codec used for the arguments of the tools.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JsonCodecBenchmark {
+
+    List<ChatMessage> messages;
+    String messagesJson;
+
+    @Setup
+    public void setup() {
+        ToolExecutionRequest toolExecutionRequest = ToolExecutionRequest.builder()
+                .id("call-1")
+                .name("convert")
+                .arguments(StubChatModel.TOOL_ARGUMENTS)
+                .build();
+        messages = List.of(
+                SystemMessage.from("You are a helpful assistant converting currencies."),
+                UserMessage.from("Convert 42.5 EUR to USD"),
+                AiMessage.from(toolExecutionRequest),
+                ToolExecutionResultMessage.from(toolExecutionRequest, "46.75 USD"),
+                AiMessage.from("42.5 EUR are 46.75 USD"),
+                UserMessage.from("Thanks!"),
+                AiMessage.from("You are welcome."));
+        messagesJson = ChatMessageSerializer.messagesToJson(messages);
+    }
+
+    @Benchmark
+    public String serializeMessages() {
+        return ChatMessageSerializer.messagesToJson(messages);
+    }
+
+    @Benchmark
+    public List<ChatMessage> deserializeMessages() {
+        return ChatMessageDeserializer.messagesFromJson(messagesJson);
+    }
+
+    @Benchmark
+    public Map<?, ?> parseToolArguments() {
+        return Json.fromJson(StubChatModel.TOOL_ARGUMENTS, Map.class);
+    }
+}
@@ -0,0 +1,74 @@
+package io.quarkiverse.langchain4j.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.langchain4j.model.input.Prompt;
+import dev.langchain4j.model.input.PromptTemplate;
+
+/**
+ * Measures the rendering of prompt templates by the Qute based {@code QuarkusPromptTemplateFactory}, which is what
+ * the AI services do for the templates of their system and user messages.
+ * <p>
+ * {@link #createAndRender()} creates the template like an AI service invocation does, and finds it in the cache of the
+ * parsed templates, while {@link #parseAndRender()} uses a different template text for each operation so that it is
+ * always parsed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PromptTemplateBenchmark {
+
+    private static final String TEMPLATE = """
+            You are a {role}.
+            {#if examples}
+            Here are some examples:
+            {#for example in examples}
+            - {example}
+            {/for}
+            {/if}
+            Summarize the following text in {count} words: {text}
+            """;
+
+    private static final Map<String, Object> VARIABLES = Map.of(
+            "role", "technical writer",
+            "examples", List.of("first example", "second example", "third example"),
+            "count", 10,
+            "text", "Quarkus is a Kubernetes-native Java stack tailored for GraalVM and OpenJDK HotSpot.");
+
+    PromptTemplate template;
+    long counter;
+
+    @Setup
+    public void setup() {
+        template = PromptTemplate.from(TEMPLATE);
+    }
+
+    @Benchmark
+    public Prompt createAndRender() {
+        return PromptTemplate.from(TEMPLATE).apply(VARIABLES);
+    }
+
+    @Benchmark
+    public Prompt parseAndRender() {
+        return PromptTemplate.from(TEMPLATE + counter++).apply(VARIABLES);
+    }
+
+    @Benchmark
+    public Prompt render() {
+        return template.apply(VARIABLES);
+    }
+}
@@ -0,0 +1,60 @@
+package io.quarkiverse.langchain4j.benchmarks;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+
+/**
+ * An in-process model answering immediately, so that the benchmarks only measure the framework.
+ * <p>
+ * When the user message asks for a conversion and tools are available, the model first requests the execution of the
+ * {@code convert} tool, and answers once it receives the result.
+ */
+public class StubChatModel implements ChatModel {
+
+    static final String TOOL_ARGUMENTS = "{\"amount\":42.5,\"from\":\"EUR\",\"to\":\"USD\"}";
+
+    private static final ChatResponse ANSWER = ChatResponse.builder()
+            .aiMessage(AiMessage.from("The answer"))
+            .build();
+
+    private static final ChatResponse TOOL_CALL = ChatResponse.builder()
+            .aiMessage(AiMessage.from(ToolExecutionRequest.builder()
+                    .id("call-1")
+                    .name("convert")
+                    .arguments(TOOL_ARGUMENTS)
+                    .build()))
+            .build();
+
+    @Override
+    public ChatResponse doChat(ChatRequest chatRequest) {
+        List<ChatMessage> messages = chatRequest.messages();
+        ChatMessage last = messages.get(messages.size() - 1);
+        if (chatRequest.toolSpecifications() == null || chatRequest.toolSpecifications().isEmpty()
+                || last instanceof ToolExecutionResultMessage) {
+            return ANSWER;
+        }
+        if (last instanceof UserMessage userMessage && userMessage.singleText().startsWith("Convert")) {
+            return TOOL_CALL;
+        }
+        return ANSWER;
+    }
+
+    public static class StubChatModelSupplier implements Supplier<ChatModel> {
+
+        private static final ChatModel MODEL = new StubChatModel();
+
+        @Override
+        public ChatModel get() {
+            return MODEL;
+        }
+    }
+}
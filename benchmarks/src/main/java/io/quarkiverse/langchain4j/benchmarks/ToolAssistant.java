@@ -0,0 +1,29 @@
+package io.quarkiverse.langchain4j.benchmarks;
+
+import java.util.function.Supplier;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import dev.langchain4j.memory.chat.ChatMemoryProvider;
+import dev.langchain4j.memory.chat.MessageWindowChatMemory;
+import dev.langchain4j.service.MemoryId;
+import dev.langchain4j.service.UserMessage;
+import io.quarkiverse.langchain4j.RegisterAiService;
+
+@ApplicationScoped
+@RegisterAiService(chatLanguageModelSupplier = StubChatModel.StubChatModelSupplier.class, tools = BenchmarkTools.class, chatMemoryProviderSupplier = ToolAssistant.FreshChatMemoryProviderSupplier.class)
+public interface ToolAssistant {
+
+    String chat(@MemoryId String memoryId, @UserMessage String message);
+
+    /**
+     * Provides an empty memory to each invocation, so that the size of the conversation stays the same.
+     */
+    class FreshChatMemoryProviderSupplier implements Supplier<ChatMemoryProvider> {
+
+        @Override
+        public ChatMemoryProvider get() {
+            return memoryId -> MessageWindowChatMemory.withMaxMessages(10);
+        }
+    }
+}
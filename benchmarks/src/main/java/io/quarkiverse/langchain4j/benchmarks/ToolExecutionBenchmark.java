@@ -0,0 +1,61 @@
+package io.quarkiverse.langchain4j.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.invocation.InvocationContext;
+import dev.langchain4j.service.tool.ToolExecutionResult;
+import dev.langchain4j.service.tool.ToolExecutor;
+import io.quarkiverse.langchain4j.runtime.ToolsRecorder;
+import io.quarkus.arc.Arc;
+
+/**
+ * Measures the execution of a tool by its {@code QuarkusToolExecutor}: the binding of the JSON arguments to the
+ * parameters of the method, the invocation through the generated invoker and the conversion of the result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ToolExecutionBenchmark {
+
+    ToolExecutor executor;
+    ToolExecutionRequest request;
+    InvocationContext invocationContext;
+
+    @Setup
+    public void setup() {
+        List<ToolSpecification> toolSpecifications = new ArrayList<>();
+        Map<String, ToolExecutor> toolExecutors = new HashMap<>();
+        ToolsRecorder.populateToolMetadata(List.<Object> of(Arc.container().instance(BenchmarkTools.class).get()),
+                toolSpecifications, toolExecutors);
+        executor = toolExecutors.get("convert");
+        request = ToolExecutionRequest.builder()
+                .id("call-1")
+                .name("convert")
+                .arguments(StubChatModel.TOOL_ARGUMENTS)
+                .build();
+        invocationContext = InvocationContext.builder().chatMemoryId("benchmark").build();
+    }
+
+    @Benchmark
+    public ToolExecutionResult execute() {
+        return executor.executeWithContext(request, invocationContext);
+    }
+}
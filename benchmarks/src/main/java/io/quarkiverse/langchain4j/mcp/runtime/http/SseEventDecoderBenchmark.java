@@ -0,0 +1,58 @@
+package io.quarkiverse.langchain4j.mcp.runtime.http;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Measures the decoding of a large server-sent event received in 8KB chunks, as it happens for the big responses of
+ * MCP servers. This benchmark lives in the package of the decoder, which is not part of the public API.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SseEventDecoderBenchmark {
+
+    private static final int CHUNK_SIZE = 8 * 1024;
+
+    @Param({ "1048576", "8388608" })
+    int payloadSize;
+
+    List<Buffer> chunks;
+
+    @Setup
+    public void setup() {
+        String payload = "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{\"text\":\""
+                + "x".repeat(payloadSize) + "\"}}";
+        byte[] bytes = ("event: message\r\ndata: " + payload + "\r\n\r\n").getBytes(StandardCharsets.UTF_8);
+        chunks = new ArrayList<>();
+        for (int i = 0; i < bytes.length; i += CHUNK_SIZE) {
+            chunks.add(Buffer.buffer().appendBytes(bytes, i, Math.min(CHUNK_SIZE, bytes.length - i)));
+        }
+    }
+
+    @Benchmark
+    public void decode(Blackhole blackhole) {
+        SseEventDecoder decoder = new SseEventDecoder(blackhole::consume);
+        for (Buffer chunk : chunks) {
+            decoder.handle(chunk);
+        }
+    }
+}
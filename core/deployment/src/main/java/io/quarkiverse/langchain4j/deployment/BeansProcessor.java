@@ -665,6 +665,12 @@ public class BeansProcessor {
         recorder.cleanUp(shutdown);
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    public void initAdmissionControl(LangChain4jRecorder recorder) {
+        recorder.initAdmissionControl();
+    }
+
     @BuildStep
     public void unremovableBeans(BuildProducer<UnremovableBeanBuildItem> unremovableProducer) {
         unremovableProducer.produce(UnremovableBeanBuildItem.beanTypes(ObjectMapper.class));
@@ -42,6 +42,7 @@ public final class DeclarativeAiServiceBuildItem extends MultiBuildItem {
     private final Integer maxToolCallingRoundTrips;
     private final Integer maxToolCallsPerResponse;
     private final boolean allowContinuousForcedToolCalling;
+    private final boolean executeToolsConcurrently;
     private final boolean makeDefaultBean;
     private final boolean shouldThrowExceptionOnEventError;
     private final DotName chatMemoryFlushStrategySupplierClassDotName;
@@ -75,6 +76,7 @@ public final class DeclarativeAiServiceBuildItem extends MultiBuildItem {
             Integer maxToolCallingRoundTrips,
             Integer maxToolCallsPerResponse,
             boolean allowContinuousForcedToolCalling,
+            boolean executeToolsConcurrently,
             boolean makeDefaultBean, boolean shouldThrowExceptionOnEventError,
             DotName chatMemoryFlushStrategySupplierClassDotName,
             List<String> skillNames) {
@@ -105,6 +107,7 @@ public final class DeclarativeAiServiceBuildItem extends MultiBuildItem {
         this.maxToolCallingRoundTrips = maxToolCallingRoundTrips;
         this.maxToolCallsPerResponse = maxToolCallsPerResponse;
         this.allowContinuousForcedToolCalling = allowContinuousForcedToolCalling;
+        this.executeToolsConcurrently = executeToolsConcurrently;
         this.makeDefaultBean = makeDefaultBean;
         this.shouldThrowExceptionOnEventError = shouldThrowExceptionOnEventError;
         this.chatMemoryFlushStrategySupplierClassDotName = chatMemoryFlushStrategySupplierClassDotName;
@@ -248,6 +251,10 @@ public final class DeclarativeAiServiceBuildItem extends MultiBuildItem {
         return allowContinuousForcedToolCalling;
     }
 
+    public boolean isExecuteToolsConcurrently() {
+        return executeToolsConcurrently;
+    }
+
     public DotName getChatMemoryFlushStrategySupplierClassDotName() {
         return chatMemoryFlushStrategySupplierClassDotName;
     }
@@ -35,13 +35,26 @@ public final class ToolMethodBuildItem extends MultiBuildItem {
 
     /**
      * Returns true if the method requires a switch to a worker thread, even if the method is non-blocking.
-     * This is because of the tools executor limitation (imperative API).
+     * Tools returning {@code Uni} or {@code CompletionStage} can be executed without blocking, unless they declare tool
+     * guardrails (which are executed synchronously). Tools returning {@code Multi} still require a switch because of
+     * the tools executor limitation (imperative API).
      *
      * @return true if the method requires a switch to a worker thread
      */
     public boolean requiresSwitchToWorkerThread() {
-        return !(toolMethodCreateInfo.executionModel() == ToolMethodCreateInfo.ExecutionModel.NON_BLOCKING
-                && isImperativeMethod());
+        if (toolMethodCreateInfo.executionModel() != ToolMethodCreateInfo.ExecutionModel.NON_BLOCKING) {
+            return true;
+        }
+        if (isImperativeMethod()) {
+            return false;
+        }
+        return DotNames.MULTI.equals(toolsMethodInfo.returnType().name()) || hasGuardrails();
+    }
+
+    private boolean hasGuardrails() {
+        return (toolMethodCreateInfo.inputGuardrails() != null && toolMethodCreateInfo.inputGuardrails().hasGuardrails())
+                || (toolMethodCreateInfo.outputGuardrails() != null
+                        && toolMethodCreateInfo.outputGuardrails().hasGuardrails());
     }
 
     private boolean isImperativeMethod() {
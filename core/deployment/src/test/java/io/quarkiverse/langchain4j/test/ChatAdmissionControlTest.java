@@ -0,0 +1,81 @@
+package io.quarkiverse.langchain4j.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.function.Supplier;
+
+import jakarta.enterprise.context.control.ActivateRequestContext;
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.output.TokenUsage;
+import dev.langchain4j.service.UserMessage;
+import io.quarkiverse.langchain4j.RegisterAiService;
+import io.quarkiverse.langchain4j.runtime.ChatAdmissionRejectedException;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ChatAdmissionControlTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(LimitedAssistant.class, UnlimitedAssistant.class, ModelSupplier.class))
+            .overrideRuntimeConfigKey("quarkus.langchain4j.ai-service.admission.ai-service.\""
+                    + LimitedAssistant.class.getName() + "\".tokens-per-minute", "150");
+
+    @Inject
+    LimitedAssistant limitedAssistant;
+
+    @Inject
+    UnlimitedAssistant unlimitedAssistant;
+
+    @Test
+    @ActivateRequestContext
+    public void shouldRejectTheRequestsExceedingTheTokenBudget() {
+        // each response uses 100 tokens, so the budget of 150 tokens per minute is exhausted by the second request
+        assertThat(limitedAssistant.chat("Hello")).isEqualTo("response");
+        assertThat(limitedAssistant.chat("Hello")).isEqualTo("response");
+        assertThatThrownBy(() -> limitedAssistant.chat("Hello"))
+                .isInstanceOf(ChatAdmissionRejectedException.class)
+                .hasMessageContaining(LimitedAssistant.class.getName());
+
+        // the limits of an AI service do not apply to the others
+        for (int i = 0; i < 3; i++) {
+            assertThat(unlimitedAssistant.chat("Hello")).isEqualTo("response");
+        }
+    }
+
+    @RegisterAiService(chatLanguageModelSupplier = ModelSupplier.class, chatMemoryProviderSupplier = RegisterAiService.NoChatMemoryProviderSupplier.class)
+    public interface LimitedAssistant {
+        String chat(@UserMessage String userMessage);
+    }
+
+    @RegisterAiService(chatLanguageModelSupplier = ModelSupplier.class, chatMemoryProviderSupplier = RegisterAiService.NoChatMemoryProviderSupplier.class)
+    public interface UnlimitedAssistant {
+        String chat(@UserMessage String userMessage);
+    }
+
+    public static class ModelSupplier implements Supplier<ChatModel> {
+        @Override
+        public ChatModel get() {
+            return new ChatModel() {
+                @Override
+                public ChatResponse doChat(ChatRequest chatRequest) {
+                    return ChatResponse.builder()
+                            .aiMessage(new AiMessage("response"))
+                            .tokenUsage(new TokenUsage(80, 20))
+                            .build();
+                }
+            };
+        }
+    }
+}
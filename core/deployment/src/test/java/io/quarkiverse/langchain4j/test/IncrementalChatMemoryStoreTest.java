@@ -0,0 +1,113 @@
+package io.quarkiverse.langchain4j.test;
+
+import static io.quarkiverse.langchain4j.runtime.LangChain4jUtil.chatMessageToText;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.control.ActivateRequestContext;
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.service.MemoryId;
+import dev.langchain4j.service.SystemMessage;
+import dev.langchain4j.service.UserMessage;
+import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
+import io.quarkiverse.langchain4j.IncrementalChatMemoryStore;
+import io.quarkiverse.langchain4j.RegisterAiService;
+import io.quarkiverse.langchain4j.runtime.LangChain4jUtil;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class IncrementalChatMemoryStoreTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(AiService.class, AppendingChatMemoryStore.class, EchoModelSupplier.class))
+            .overrideRuntimeConfigKey("quarkus.langchain4j.chat-memory.memory-window.max-messages", "4");
+
+    @ApplicationScoped
+    public static class AppendingChatMemoryStore extends InMemoryChatMemoryStore implements IncrementalChatMemoryStore {
+
+        static final List<Integer> UPDATED = new CopyOnWriteArrayList<>();
+        static final List<List<ChatMessage>> APPENDED = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void updateMessages(Object memoryId, List<ChatMessage> messages) {
+            UPDATED.add(messages.size());
+            super.updateMessages(memoryId, messages);
+        }
+
+        @Override
+        public void appendMessages(Object memoryId, List<ChatMessage> messages, int retained) {
+            APPENDED.add(messages);
+            List<ChatMessage> stored = new ArrayList<>(getMessages(memoryId));
+            stored.addAll(messages);
+            int first = stored.get(0) instanceof dev.langchain4j.data.message.SystemMessage ? 1 : 0;
+            while (stored.size() - first > retained) {
+                stored.remove(first);
+            }
+            super.updateMessages(memoryId, stored);
+        }
+    }
+
+    public static class EchoModelSupplier implements Supplier<ChatModel> {
+        @Override
+        public ChatModel get() {
+            return new ChatModel() {
+                @Override
+                public ChatResponse doChat(ChatRequest chatRequest) {
+                    List<ChatMessage> messages = chatRequest.messages();
+                    return ChatResponse.builder()
+                            .aiMessage(new AiMessage("echo: " + chatMessageToText(messages.get(messages.size() - 1))))
+                            .build();
+                }
+            };
+        }
+    }
+
+    @RegisterAiService(chatLanguageModelSupplier = EchoModelSupplier.class)
+    interface AiService {
+
+        @SystemMessage("You are an echo")
+        String chat(@MemoryId String memoryId, @UserMessage String userMessage);
+    }
+
+    @Inject
+    AiService service;
+
+    @Inject
+    AppendingChatMemoryStore store;
+
+    @Test
+    @ActivateRequestContext
+    void should_only_append_the_new_messages() {
+        service.chat("1", "first");
+        // the system message is added by the first invocation, which is not an append
+        assertThat(AppendingChatMemoryStore.UPDATED).containsExactly(3);
+        assertThat(AppendingChatMemoryStore.APPENDED).isEmpty();
+
+        service.chat("1", "second");
+        assertThat(AppendingChatMemoryStore.UPDATED).containsExactly(3);
+        assertThat(AppendingChatMemoryStore.APPENDED).hasSize(1);
+        assertThat(AppendingChatMemoryStore.APPENDED.get(0)).extracting(LangChain4jUtil::chatMessageToText)
+                .containsExactly("second", "echo: second");
+
+        // the window holds 4 messages, including the system message
+        assertThat(store.getMessages("1")).extracting(LangChain4jUtil::chatMessageToText)
+                .containsExactly("You are an echo", "echo: first", "second", "echo: second");
+    }
+}
@@ -0,0 +1,114 @@
+package io.quarkiverse.langchain4j.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.context.control.ActivateRequestContext;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.service.UserMessage;
+import io.quarkiverse.langchain4j.ModelName;
+import io.quarkiverse.langchain4j.RegisterAiService;
+import io.quarkus.arc.Unremovable;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class NamedChatModelResolutionTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Assistant.class, DefaultModelSupplier.class, NamedModelProducer.class, NamedModel.class));
+
+    @Inject
+    Assistant assistant;
+
+    @Test
+    @ActivateRequestContext
+    public void shouldResolveTheNamedModelOfEachCall() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(assistant.chat("Hello", "shared")).isEqualTo("shared");
+            assertThat(assistant.chat("Hello", "dependent")).isEqualTo("dependent");
+            assertThat(assistant.chat("Hello", null)).isEqualTo("default");
+        }
+        assertThat(NamedModelProducer.SHARED_CREATIONS.get()).isEqualTo(1);
+        // dependent models are not kept, a new instance is still created for each call
+        assertThat(NamedModelProducer.DEPENDENT_CREATIONS.get()).isGreaterThanOrEqualTo(3);
+    }
+
+    @Test
+    @ActivateRequestContext
+    public void shouldFailForAnUnknownModel() {
+        assertThatThrownBy(() -> assistant.chat("Hello", "unknown"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("'unknown'")
+                .hasMessageContaining("shared");
+    }
+
+    @RegisterAiService(chatLanguageModelSupplier = DefaultModelSupplier.class, chatMemoryProviderSupplier = RegisterAiService.NoChatMemoryProviderSupplier.class)
+    public interface Assistant {
+        String chat(@UserMessage String userMessage, @ModelName String model);
+    }
+
+    @Singleton
+    public static class DefaultModelSupplier implements Supplier<ChatModel> {
+        @Override
+        public ChatModel get() {
+            return new NamedModel("default");
+        }
+    }
+
+    @Singleton
+    public static class NamedModelProducer {
+
+        static final AtomicInteger SHARED_CREATIONS = new AtomicInteger();
+        static final AtomicInteger DEPENDENT_CREATIONS = new AtomicInteger();
+
+        @Produces
+        @ApplicationScoped
+        @Unremovable
+        @ModelName("shared")
+        public ChatModel shared() {
+            SHARED_CREATIONS.incrementAndGet();
+            return new NamedModel("shared");
+        }
+
+        @Produces
+        @Dependent
+        @Unremovable
+        @ModelName("dependent")
+        public ChatModel dependent() {
+            DEPENDENT_CREATIONS.incrementAndGet();
+            return new NamedModel("dependent");
+        }
+    }
+
+    public static class NamedModel implements ChatModel {
+
+        private final String name;
+
+        public NamedModel(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public ChatResponse doChat(ChatRequest chatRequest) {
+            return ChatResponse.builder().aiMessage(new AiMessage(name)).build();
+        }
+    }
+}
@@ -13,6 +13,8 @@ import org.junit.jupiter.api.extension.RegisterExtension;
 
 import dev.langchain4j.model.input.Prompt;
 import dev.langchain4j.model.input.PromptTemplate;
+import dev.langchain4j.spi.prompt.PromptTemplateFactory;
+import io.quarkiverse.langchain4j.QuarkusPromptTemplateFactory;
 import io.quarkus.test.QuarkusUnitTest;
 
 /**
@@ -58,4 +60,37 @@ public class PromptTemplateTestInfo {
 
         assertThat(prompt.text()).isEqualTo("My name is Klaus and today is " + LocalDate.now());
     }
+
+    @Test
+    void should_reuse_parsed_template() {
+
+        PromptTemplateFactory factory = new QuarkusPromptTemplateFactory();
+
+        PromptTemplateFactory.Template template = factory.create(() -> "My name is {{name}}.");
+
+        assertThat(factory.create(() -> "My name is {{name}}.")).isSameAs(template);
+        assertThat(factory.create(() -> "My name is {{surname}}.")).isNotSameAs(template);
+        assertThat(template.render(Map.of("name", "Klaus"))).isEqualTo("My name is Klaus.");
+        assertThat(template.render(Map.of("name", "Heißler"))).isEqualTo("My name is Heißler.");
+    }
+
+    @Test
+    void should_evict_least_recently_used_template() {
+
+        PromptTemplateFactory factory = new QuarkusPromptTemplateFactory();
+
+        PromptTemplateFactory.Template used = factory.create(() -> "Used {{name}}.");
+        PromptTemplateFactory.Template unused = factory.create(() -> "Unused {{name}}.");
+        // one more template than the cache holds, "Used" being used again in between
+        for (int i = 0; i < 1023; i++) {
+            String text = "Template " + i + " {{name}}.";
+            factory.create(() -> text);
+            if (i == 500) {
+                factory.create(() -> "Used {{name}}.");
+            }
+        }
+
+        assertThat(factory.create(() -> "Used {{name}}.")).isSameAs(used);
+        assertThat(factory.create(() -> "Unused {{name}}.")).isNotSameAs(unused);
+    }
 }
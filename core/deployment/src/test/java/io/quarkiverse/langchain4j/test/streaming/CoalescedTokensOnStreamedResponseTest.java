@@ -0,0 +1,99 @@
+package io.quarkiverse.langchain4j.test.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.context.control.ActivateRequestContext;
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.chat.StreamingChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
+import dev.langchain4j.service.MemoryId;
+import dev.langchain4j.service.UserMessage;
+import io.quarkiverse.langchain4j.RegisterAiService;
+import io.quarkus.arc.Arc;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Multi;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+public class CoalescedTokensOnStreamedResponseTest {
+
+    private static final int TOKENS = 50;
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(StreamTestUtils.class))
+            .overrideRuntimeConfigKey("quarkus.langchain4j.ai-service.streaming-coalescing.enabled", "true")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.ai-service.streaming-coalescing.window", "5ms")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.ai-service.streaming-coalescing.max-size", "8");
+
+    @Inject
+    MyAiService service;
+
+    @RepeatedTest(20) // Verify that every token is emitted, in order.
+    @ActivateRequestContext
+    void testFromWorkerThread() {
+        List<String> list = service.hi("123", "Say hello").collect().asList().await().indefinitely();
+        assertThat(list).containsExactlyElementsOf(expectedTokens());
+    }
+
+    private static List<String> expectedTokens() {
+        List<String> tokens = new ArrayList<>(TOKENS);
+        for (int i = 0; i < TOKENS; i++) {
+            tokens.add("token-" + i);
+        }
+        return tokens;
+    }
+
+    public static class BurstStreamedChatModelSupplier implements Supplier<StreamingChatModel> {
+
+        @Override
+        public StreamingChatModel get() {
+            return new StreamingChatModel() {
+                @Override
+                public void doChat(ChatRequest chatRequest, StreamingChatResponseHandler handler) {
+                    Vertx vertx = Arc.container().select(Vertx.class).get();
+                    var ctxt = vertx.getOrCreateContext();
+                    ctxt.runOnContext(x1 -> {
+                        // the first half of the tokens arrives in a single burst, the rest one by one
+                        for (int i = 0; i < TOKENS / 2; i++) {
+                            handler.onPartialResponse("token-" + i);
+                        }
+                        emit(ctxt, handler, TOKENS / 2);
+                    });
+                }
+
+                private void emit(Context ctxt, StreamingChatResponseHandler handler, int index) {
+                    ctxt.runOnContext(x -> {
+                        if (index == TOKENS) {
+                            handler.onCompleteResponse(ChatResponse.builder().aiMessage(new AiMessage("")).build());
+                            return;
+                        }
+                        handler.onPartialResponse("token-" + index);
+                        emit(ctxt, handler, index + 1);
+                    });
+                }
+            };
+        }
+    }
+
+    @RegisterAiService(streamingChatLanguageModelSupplier = BurstStreamedChatModelSupplier.class, chatMemoryProviderSupplier = StreamTestUtils.FakeMemoryProviderSupplier.class)
+    public interface MyAiService {
+
+        Multi<String> hi(@MemoryId String id, @UserMessage String query);
+
+    }
+}
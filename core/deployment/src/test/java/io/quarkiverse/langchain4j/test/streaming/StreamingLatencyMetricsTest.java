@@ -0,0 +1,125 @@
+package io.quarkiverse.langchain4j.test.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.context.control.ActivateRequestContext;
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.chat.StreamingChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.request.ChatRequestParameters;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
+import dev.langchain4j.model.output.TokenUsage;
+import dev.langchain4j.service.MemoryId;
+import dev.langchain4j.service.UserMessage;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkiverse.langchain4j.RegisterAiService;
+import io.quarkus.arc.Arc;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Multi;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+public class StreamingLatencyMetricsTest {
+
+    private static final int TOKENS = 5;
+    private static final String MODEL = "streaming-metrics-model";
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(StreamTestUtils.class));
+
+    static SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Inject
+    MyAiService service;
+
+    @BeforeAll
+    static void addSimpleRegistry() {
+        Metrics.globalRegistry.add(registry);
+    }
+
+    @Test
+    @ActivateRequestContext
+    void shouldRecordTheLatenciesOfTheStreamedResponse() {
+        List<String> list = service.hi("123", "Say hello").collect().asList().await().indefinitely();
+        assertThat(list).hasSize(TOKENS);
+
+        Timer timeToFirstChunk = registry.find("gen_ai.client.streaming.time_to_first_chunk")
+                .tag("gen_ai.request.model", MODEL)
+                .tag("ai_service.class_name", MyAiService.class.getName())
+                .tag("ai_service.method_name", "hi")
+                .timer();
+        assertThat(timeToFirstChunk).isNotNull();
+        assertThat(timeToFirstChunk.count()).isEqualTo(1);
+
+        Timer interChunkGap = registry.find("gen_ai.client.streaming.inter_chunk_gap")
+                .tag("gen_ai.request.model", MODEL)
+                .timer();
+        assertThat(interChunkGap).isNotNull();
+        assertThat(interChunkGap.count()).isEqualTo(TOKENS - 1);
+
+        DistributionSummary outputTokensPerSecond = registry.find("gen_ai.client.streaming.output_tokens_per_second")
+                .tag("gen_ai.request.model", MODEL)
+                .summary();
+        assertThat(outputTokensPerSecond).isNotNull();
+        assertThat(outputTokensPerSecond.count()).isEqualTo(1);
+        assertThat(outputTokensPerSecond.max()).isPositive();
+    }
+
+    public static class MeasuredStreamedChatModelSupplier implements Supplier<StreamingChatModel> {
+
+        @Override
+        public StreamingChatModel get() {
+            return new StreamingChatModel() {
+
+                @Override
+                public ChatRequestParameters defaultRequestParameters() {
+                    return ChatRequestParameters.builder().modelName(MODEL).build();
+                }
+
+                @Override
+                public void doChat(ChatRequest chatRequest, StreamingChatResponseHandler handler) {
+                    Vertx vertx = Arc.container().select(Vertx.class).get();
+                    emit(vertx.getOrCreateContext(), handler, 0);
+                }
+
+                private void emit(Context ctxt, StreamingChatResponseHandler handler, int index) {
+                    ctxt.runOnContext(x -> {
+                        if (index == TOKENS) {
+                            handler.onCompleteResponse(ChatResponse.builder()
+                                    .aiMessage(new AiMessage(""))
+                                    .tokenUsage(new TokenUsage(10, TOKENS))
+                                    .build());
+                            return;
+                        }
+                        handler.onPartialResponse("token-" + index);
+                        emit(ctxt, handler, index + 1);
+                    });
+                }
+            };
+        }
+    }
+
+    @RegisterAiService(streamingChatLanguageModelSupplier = MeasuredStreamedChatModelSupplier.class, chatMemoryProviderSupplier = StreamTestUtils.FakeMemoryProviderSupplier.class)
+    public interface MyAiService {
+
+        Multi<String> hi(@MemoryId String id, @UserMessage String query);
+
+    }
+}
@@ -0,0 +1,152 @@
+package io.quarkiverse.langchain4j.test.toolresolution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.control.ActivateRequestContext;
+import jakarta.inject.Inject;
+
+import org.assertj.core.api.Assertions;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import dev.langchain4j.agent.tool.Tool;
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.output.FinishReason;
+import dev.langchain4j.model.output.TokenUsage;
+import io.quarkiverse.langchain4j.RegisterAiService;
+import io.quarkiverse.langchain4j.runtime.ToolCallsLimitExceededException;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Verify functionality of {@link RegisterAiService#executeToolsConcurrently()}
+ */
+public class ConcurrentToolExecutionTest {
+
+    private static final int TOOL_CALLS = 3;
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Tools.class, ModelSupplier.class));
+
+    static List<String> toolResultIds = new ArrayList<>();
+    static List<String> toolResultTexts = new ArrayList<>();
+
+    static ChatModel chatModel = new ChatModel() {
+        @Override
+        public ChatResponse chat(ChatRequest chatRequest) {
+            List<ChatMessage> messages = chatRequest.messages();
+            TokenUsage usage = new TokenUsage(42, 42);
+            if (messages.get(messages.size() - 1) instanceof ToolExecutionResultMessage) {
+                for (ChatMessage message : messages) {
+                    if (message instanceof ToolExecutionResultMessage toolResult) {
+                        toolResultIds.add(toolResult.id());
+                        toolResultTexts.add(toolResult.text());
+                    }
+                }
+                return ChatResponse.builder()
+                        .aiMessage(AiMessage.from("done"))
+                        .tokenUsage(usage)
+                        .finishReason(FinishReason.STOP)
+                        .build();
+            }
+            List<ToolExecutionRequest> requests = new ArrayList<>();
+            for (int i = 0; i < TOOL_CALLS; i++) {
+                requests.add(ToolExecutionRequest.builder()
+                        .name("awaitOthers")
+                        .id("call-" + i)
+                        .arguments("{}")
+                        .build());
+            }
+            return ChatResponse.builder()
+                    .aiMessage(AiMessage.from(requests))
+                    .tokenUsage(usage)
+                    .finishReason(FinishReason.TOOL_EXECUTION)
+                    .build();
+        }
+    };
+
+    @RegisterAiService(executeToolsConcurrently = true, tools = Tools.class, chatLanguageModelSupplier = ModelSupplier.class)
+    public interface ConcurrentAiService {
+        String chat(String message);
+    }
+
+    @RegisterAiService(executeToolsConcurrently = true, maxToolCallsPerResponse = 2, tools = Tools.class, chatLanguageModelSupplier = ModelSupplier.class)
+    public interface ConcurrentAiServiceWithLimit {
+        String chat(String message);
+    }
+
+    public static class ModelSupplier implements Supplier<ChatModel> {
+        @Override
+        public ChatModel get() {
+            return chatModel;
+        }
+    }
+
+    @ApplicationScoped
+    public static class Tools {
+        static volatile CountDownLatch latch;
+        static final AtomicInteger invocations = new AtomicInteger();
+
+        @Tool
+        public String awaitOthers() {
+            invocations.incrementAndGet();
+            latch.countDown();
+            // only completes in time when all the tool calls of the response run at the same time
+            try {
+                return latch.await(5, TimeUnit.SECONDS) ? "ok" : "timeout";
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    @Inject
+    ConcurrentAiService concurrentAiService;
+
+    @Inject
+    ConcurrentAiServiceWithLimit concurrentAiServiceWithLimit;
+
+    @BeforeEach
+    void setUp() {
+        Tools.latch = new CountDownLatch(TOOL_CALLS);
+        Tools.invocations.set(0);
+        toolResultIds.clear();
+        toolResultTexts.clear();
+    }
+
+    @Test
+    @ActivateRequestContext
+    public void testToolsRunConcurrentlyAndKeepRequestOrder() {
+        Assertions.assertThat(concurrentAiService.chat("test")).isEqualTo("done");
+
+        Assertions.assertThat(Tools.invocations).hasValue(TOOL_CALLS);
+        Assertions.assertThat(toolResultTexts).hasSize(TOOL_CALLS).noneMatch(text -> text.contains("timeout"));
+        Assertions.assertThat(toolResultIds).containsExactly("call-0", "call-1", "call-2");
+    }
+
+    @Test
+    @ActivateRequestContext
+    public void testLimitIsCheckedBeforeAnyToolRuns() {
+        Assertions.assertThatThrownBy(() -> concurrentAiServiceWithLimit.chat("test"))
+                .isInstanceOf(ToolCallsLimitExceededException.class);
+
+        Assertions.assertThat(Tools.invocations).hasValue(0);
+    }
+}
@@ -1,9 +1,12 @@
 package io.quarkiverse.langchain4j.test.tools;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
@@ -36,8 +39,10 @@ import dev.langchain4j.model.output.FinishReason;
 import dev.langchain4j.model.output.TokenUsage;
 import dev.langchain4j.service.MemoryId;
 import dev.langchain4j.service.UserMessage;
+import io.quarkiverse.langchain4j.HandleToolExecutionError;
 import io.quarkiverse.langchain4j.RegisterAiService;
 import io.quarkiverse.langchain4j.ToolBox;
+import io.quarkiverse.langchain4j.runtime.PreventsErrorHandlerExecution;
 import io.quarkiverse.langchain4j.test.Lists;
 import io.quarkus.arc.Arc;
 import io.quarkus.test.QuarkusUnitTest;
@@ -226,9 +231,91 @@ public class ToolExecutionModelWithStreamingTest {
             }
         });
 
+        // Tools returning Uni are executed without leaving the event loop
         Awaitility.await().until(() -> failure.get() != null || result.get() != null);
         assertThat(failure.get()).isNull();
-        assertThat(result.get()).contains(uuid, "executor-thread");
+        assertThat(result.get()).contains(uuid, "eventloop")
+                .doesNotContain("executor-thread");
+    }
+
+    @Test
+    @ActivateRequestContext
+    void testCompletionStageToolInvocationFromEventLoop() {
+        String uuid = UUID.randomUUID().toString();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicReference<String> result = new AtomicReference<>();
+        vertx.getOrCreateContext().runOnContext(x -> {
+            try {
+                Arc.container().requestContext().activate();
+                aiService.helloCompletionStage("abc", "hiCompletionStage - " + uuid)
+                        .collect().asList().map(l -> String.join(" ", l))
+                        .subscribeAsCompletionStage()
+                        .thenAccept(result::set);
+            } catch (Exception e) {
+                failure.set(e);
+            } finally {
+                Arc.container().requestContext().deactivate();
+            }
+        });
+
+        Awaitility.await().until(() -> failure.get() != null || result.get() != null);
+        assertThat(failure.get()).isNull();
+        assertThat(result.get()).contains(uuid, "eventloop")
+                .doesNotContain("executor-thread");
+    }
+
+    @Test
+    @ActivateRequestContext
+    void testFailingUniToolInvocationFromEventLoopIsHandled() {
+        String uuid = UUID.randomUUID().toString();
+        AtomicReference<String> result = new AtomicReference<>();
+        vertx.getOrCreateContext().runOnContext(x -> {
+            try {
+                Arc.container().requestContext().activate();
+                aiService.helloFailingUni("abc", "hiFailingUni - " + uuid)
+                        .collect().asList().map(l -> String.join(" ", l))
+                        .subscribeAsCompletionStage()
+                        .thenAccept(result::set);
+            } finally {
+                Arc.container().requestContext().deactivate();
+            }
+        });
+
+        // the failure goes through the error handler of the AI service, like for blocking tools
+        Awaitility.await().until(() -> result.get() != null);
+        assertThat(result.get()).contains("handled: failed " + uuid);
+    }
+
+    @Test
+    @ActivateRequestContext
+    void testFailingUniToolInvocationFromEventLoopPropagatesUnhandledFailure() {
+        String uuid = UUID.randomUUID().toString();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        vertx.getOrCreateContext().runOnContext(x -> {
+            try {
+                Arc.container().requestContext().activate();
+                aiService.helloFailingUni("abc", "hiFailingUni - unhandled " + uuid)
+                        .collect().asList()
+                        .subscribe().with(l -> {
+                        }, failure::set);
+            } finally {
+                Arc.container().requestContext().deactivate();
+            }
+        });
+
+        Awaitility.await().until(() -> failure.get() != null);
+        assertThat(failure.get()).isInstanceOf(UnhandledToolException.class)
+                .hasMessageContaining(uuid);
+    }
+
+    @Test
+    @ActivateRequestContext
+    void testFailingUniToolInvocationFromWorkerThreadPropagatesUnhandledFailure() {
+        String uuid = UUID.randomUUID().toString();
+        assertThatThrownBy(() -> aiService.helloFailingUni("abc", "hiFailingUni - unhandled " + uuid)
+                .collect().asList().await().indefinitely())
+                .isInstanceOf(UnhandledToolException.class)
+                .hasMessageContaining(uuid);
     }
 
     @Test
@@ -323,8 +410,19 @@ public class ToolExecutionModelWithStreamingTest {
         @ToolBox(UniTool.class)
         Multi<String> helloUni(@MemoryId String memoryId, @UserMessage String userMessageContainingTheToolId);
 
+        @ToolBox(CompletionStageTool.class)
+        Multi<String> helloCompletionStage(@MemoryId String memoryId, @UserMessage String userMessageContainingTheToolId);
+
         @ToolBox(VirtualTool.class)
         Multi<String> helloVirtualTools(@MemoryId String memoryId, @UserMessage String userMessageContainingTheToolId);
+
+        @ToolBox(FailingUniTool.class)
+        Multi<String> helloFailingUni(@MemoryId String memoryId, @UserMessage String userMessageContainingTheToolId);
+
+        @HandleToolExecutionError
+        static String handleToolExecutionError(Throwable error) {
+            return "handled: " + error.getMessage();
+        }
     }
 
     @Singleton
@@ -352,6 +450,31 @@ public class ToolExecutionModelWithStreamingTest {
         }
     }
 
+    @Singleton
+    public static class CompletionStageTool {
+        @Tool
+        public CompletionStage<String> hiCompletionStage(String m) {
+            return CompletableFuture.completedFuture(m + " " + Thread.currentThread());
+        }
+    }
+
+    @Singleton
+    public static class FailingUniTool {
+        @Tool
+        public Uni<String> hiFailingUni(String m) {
+            if (m.startsWith("unhandled")) {
+                return Uni.createFrom().failure(new UnhandledToolException(m));
+            }
+            return Uni.createFrom().failure(new IllegalStateException("failed " + m));
+        }
+    }
+
+    public static class UnhandledToolException extends RuntimeException implements PreventsErrorHandlerExecution {
+        public UnhandledToolException(String message) {
+            super(message);
+        }
+    }
+
     @Singleton
     public static class VirtualTool {
 
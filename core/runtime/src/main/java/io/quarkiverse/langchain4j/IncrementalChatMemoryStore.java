@@ -0,0 +1,31 @@
+package io.quarkiverse.langchain4j;
+
+import java.util.List;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.memory.chat.MessageWindowChatMemory;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+
+/**
+ * A {@link ChatMemoryStore} that can apply the changes made to a conversation during an AI service invocation without
+ * rewriting the whole conversation.
+ * <p>
+ * When the default {@link MessageWindowChatMemory} is backed by a store implementing this interface, committing the
+ * chat memory at the end of an invocation calls {@link #appendMessages(Object, List, int)} with the new messages
+ * instead of calling {@link #updateMessages(Object, List)} with all the messages of the conversation. The latter is
+ * still used whenever the change is not a plain append, for example when the {@link SystemMessage} changes.
+ */
+public interface IncrementalChatMemoryStore extends ChatMemoryStore {
+
+    /**
+     * Appends messages to the end of a conversation, then evicts its oldest messages so that it holds at most
+     * {@code retained} messages. The {@link SystemMessage} of the conversation, if any, is not part of the appended
+     * messages, is left untouched and is not counted in {@code retained}.
+     *
+     * @param memoryId the ID of the chat memory
+     * @param messages the new messages, never contains a {@link SystemMessage}
+     * @param retained the number of messages (excluding the system message) the conversation holds after the update
+     */
+    void appendMessages(Object memoryId, List<ChatMessage> messages, int retained);
+}
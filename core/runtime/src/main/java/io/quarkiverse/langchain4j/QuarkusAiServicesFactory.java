@@ -107,6 +107,11 @@ public class QuarkusAiServicesFactory implements AiServicesFactory {
             return this;
         }
 
+        public AiServices<T> executeToolsConcurrently(boolean executeToolsConcurrently) {
+            quarkusAiServiceContext().executeToolsConcurrently = executeToolsConcurrently;
+            return this;
+        }
+
         public AiServices<T> chatMemoryFlushStrategy(
                 ChatMemoryFlushStrategy chatMemoryFlushStrategy) {
             quarkusAiServiceContext().chatMemoryFlushStrategy = chatMemoryFlushStrategy;
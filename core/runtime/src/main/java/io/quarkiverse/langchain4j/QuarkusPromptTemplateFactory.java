@@ -3,6 +3,7 @@ package io.quarkiverse.langchain4j;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
@@ -21,8 +22,23 @@ import io.quarkus.qute.TemplateInstance;
 
 public class QuarkusPromptTemplateFactory implements PromptTemplateFactory {
 
+    /**
+     * Upper bound of the number of parsed templates kept in {@link #templates}. The templates of the AI service
+     * annotations are used over and over, whereas the templates built from method parameters may be seen only once, so
+     * the least recently used templates are evicted first.
+     */
+    static final int MAX_CACHED_TEMPLATES = 1024;
+
     private static final AtomicReference<LazyValue<Engine>> engineLazyValue = new AtomicReference<>();
 
+    // the key is the template text, guarded by its own lock
+    private static final Map<String, Template> templates = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Template> eldest) {
+            return size() > MAX_CACHED_TEMPLATES;
+        }
+    };
+
     public QuarkusPromptTemplateFactory() {
         engineLazyValue.set(new LazyValue<>(new Supplier<Engine>() {
             @Override
@@ -38,11 +54,27 @@ public class QuarkusPromptTemplateFactory implements PromptTemplateFactory {
         if (lazyValue != null) {
             lazyValue.clear();
         }
+        synchronized (templates) {
+            templates.clear();
+        }
     }
 
     @Override
     public Template create(Input input) {
-        return new QuteTemplate(engineLazyValue.get().get().parse(input.getTemplate()));
+        String text = input.getTemplate();
+        Template template;
+        synchronized (templates) {
+            template = templates.get(text);
+        }
+        if (template != null) {
+            return template;
+        }
+        // parsed outside the lock, the same template may be parsed twice by concurrent invocations
+        template = new QuteTemplate(engineLazyValue.get().get().parse(text));
+        synchronized (templates) {
+            Template existing = templates.putIfAbsent(text, template);
+            return existing != null ? existing : template;
+        }
     }
 
     public static class MustacheTemplateVariableStyleParserHook implements ParserHook {
@@ -119,6 +119,19 @@ public @interface RegisterAiService {
      */
     int maxToolCallsPerResponse() default 0;
 
+    /**
+     * When the model requests several tools in a single response, execute them concurrently instead of one after
+     * the other.
+     * The results are still added to the chat memory in the order the model requested them, and
+     * {@link #maxToolCallsPerResponse()}, {@link dev.langchain4j.agent.tool.ReturnBehavior} and tool guardrails are
+     * applied as usual.
+     * <p>
+     * Only enable this when the tools of the AI service do not depend on each other's side effects.
+     * If not enabled for a specific AI service, the AI service will use the value of the common
+     * {@code quarkus.langchain4j.ai-service.execute-tools-concurrently} property.
+     */
+    boolean executeToolsConcurrently() default false;
+
     /**
      * Tool classes to use. All tools are expected to be CDI beans.
      */
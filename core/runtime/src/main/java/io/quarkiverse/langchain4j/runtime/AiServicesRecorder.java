@@ -16,6 +16,8 @@ import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.util.AnnotationLiteral;
 import jakarta.enterprise.util.TypeLiteral;
 
+import org.jboss.logging.Logger;
+
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.memory.chat.ChatMemoryProvider;
@@ -23,6 +25,7 @@ import dev.langchain4j.model.chat.ChatModel;
 import dev.langchain4j.model.chat.StreamingChatModel;
 import dev.langchain4j.model.chat.request.ChatRequest;
 import dev.langchain4j.model.image.ImageModel;
+import dev.langchain4j.model.input.PromptTemplate;
 import dev.langchain4j.model.moderation.ModerationModel;
 import dev.langchain4j.rag.RetrievalAugmentor;
 import dev.langchain4j.service.tool.ToolArgumentsErrorHandler;
@@ -36,6 +39,7 @@ import io.quarkiverse.langchain4j.RegisterAiService;
 import io.quarkiverse.langchain4j.observability.AiServiceEvents;
 import io.quarkiverse.langchain4j.runtime.aiservice.AiServiceClassCreateInfo;
 import io.quarkiverse.langchain4j.runtime.aiservice.AiServiceMethodCreateInfo;
+import io.quarkiverse.langchain4j.runtime.aiservice.AiServiceMethodImplementationSupport;
 import io.quarkiverse.langchain4j.runtime.aiservice.ChatMemoryFlushStrategy;
 import io.quarkiverse.langchain4j.runtime.aiservice.ChatMemorySeeder;
 import io.quarkiverse.langchain4j.runtime.aiservice.DeclarativeAiServiceCreateInfo;
@@ -54,6 +58,9 @@ import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
 public class AiServicesRecorder {
+
+    private static final Logger log = Logger.getLogger(AiServicesRecorder.class);
+
     private static final TypeLiteral<Instance<RetrievalAugmentor>> RETRIEVAL_AUGMENTOR_TYPE_LITERAL = new TypeLiteral<>() {
     };
 
@@ -141,6 +148,7 @@ public class AiServicesRecorder {
                     Class<?> serviceClass = loadClass(info.serviceClassName());
 
                     QuarkusAiServiceContext aiServiceContext = new QuarkusAiServiceContext(serviceClass);
+                    aiServiceContext.chatModelName = info.chatModelName();
                     if (info.defaultMemoryIdProviderClassName() != null) {
                         aiServiceContext.defaultMemoryIdProvider = (DefaultMemoryIdProvider) Thread
                                 .currentThread().getContextClassLoader().loadClass(info.defaultMemoryIdProviderClassName())
@@ -397,6 +405,10 @@ public class AiServicesRecorder {
 
                     quarkusAiServices.allowContinuousForcedToolCalling(info.allowContinuousForcedToolCalling());
 
+                    if (info.executeToolsConcurrently()) {
+                        quarkusAiServices.executeToolsConcurrently(true);
+                    }
+
                     if (info.chatMemoryFlushStrategySupplierClassName() != null) {
                         Supplier<? extends ChatMemoryFlushStrategy> supplier = createSupplier(
                                 info.chatMemoryFlushStrategySupplierClassName());
@@ -420,6 +432,8 @@ public class AiServicesRecorder {
                         aiServiceContext.chatRequestTransformer = new SkillsChatRequestTransformer(skillsSystemMsg);
                     }
 
+                    parseTemplates(info.serviceClassName());
+
                     return aiServiceContext;
                 } catch (ClassNotFoundException e) {
                     throw new IllegalStateException(e);
@@ -436,6 +450,41 @@ public class AiServicesRecorder {
         };
     }
 
+    /**
+     * Parses the templates of the {@code @SystemMessage} and {@code @UserMessage} annotations of the AI service
+     * methods, so that their invocations find them in the cache of {@link PromptTemplate} instead of parsing
+     * them.
+     */
+    private static void parseTemplates(String serviceClassName) {
+        AiServiceClassCreateInfo classCreateInfo = metadata.get(serviceClassName);
+        if (classCreateInfo == null) {
+            return;
+        }
+        for (AiServiceMethodCreateInfo methodCreateInfo : classCreateInfo.methodMap().values()) {
+            methodCreateInfo.getSystemMessageInfo()
+                    .flatMap(AiServiceMethodCreateInfo.TemplateInfo::text)
+                    .ifPresent(AiServicesRecorder::parseTemplate);
+            methodCreateInfo.getUserMessageInfo().template()
+                    .flatMap(AiServiceMethodCreateInfo.TemplateInfo::text)
+                    .ifPresent(text -> {
+                        // whether the response schema placeholder is appended depends on the model used at runtime
+                        parseTemplate(AiServiceMethodImplementationSupport.userMessageTemplateText(methodCreateInfo,
+                                text, false));
+                        parseTemplate(AiServiceMethodImplementationSupport.userMessageTemplateText(methodCreateInfo,
+                                text, true));
+                    });
+        }
+    }
+
+    private static void parseTemplate(String text) {
+        try {
+            PromptTemplate.from(text);
+        } catch (RuntimeException e) {
+            // an invalid template is reported when the method using it is invoked
+            log.debugf(e, "Unable to parse the prompt template '%s' at startup", text);
+        }
+    }
+
     public void validateSkillNames(BeanContainer beanContainer, List<String> skillNames) {
         SkillsConfigurator configurator = beanContainer.beanInstance(SkillsConfigurator.class);
         if (configurator == null) {
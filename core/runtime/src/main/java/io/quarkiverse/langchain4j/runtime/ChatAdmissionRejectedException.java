@@ -0,0 +1,22 @@
+package io.quarkiverse.langchain4j.runtime;
+
+/**
+ * Thrown when a chat request is not admitted by the configured admission control limits, before it is sent to the
+ * model.
+ */
+public class ChatAdmissionRejectedException extends RuntimeException {
+
+    private final String limitedBy;
+
+    public ChatAdmissionRejectedException(String limitedBy, String reason) {
+        super(String.format("Chat request rejected by the admission control of %s: %s", limitedBy, reason));
+        this.limitedBy = limitedBy;
+    }
+
+    /**
+     * @return the model or the AI service whose limits rejected the request
+     */
+    public String getLimitedBy() {
+        return limitedBy;
+    }
+}
@@ -8,7 +8,10 @@ import dev.langchain4j.memory.chat.MessageWindowChatMemory;
 import dev.langchain4j.memory.chat.TokenWindowChatMemory;
 import dev.langchain4j.model.TokenCountEstimator;
 import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import io.quarkiverse.langchain4j.IncrementalChatMemoryStore;
 import io.quarkiverse.langchain4j.runtime.aiservice.ChatMemoryConfig;
+import io.quarkiverse.langchain4j.runtime.aiservice.IncrementalMessageWindowChatMemory;
+import io.quarkus.arc.ClientProxy;
 import io.quarkus.arc.SyntheticCreationalContext;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
@@ -27,14 +30,21 @@ public class ChatMemoryRecorder {
             public ChatMemoryProvider apply(SyntheticCreationalContext<ChatMemoryProvider> context) {
                 ChatMemoryStore chatMemoryStore = context.getInjectedReference(ChatMemoryStore.class);
                 int maxMessages = config.getValue().memoryWindow().maxMessages();
+                // synthetic beans are only proxied with their declared types
+                IncrementalChatMemoryStore incrementalStore = ClientProxy.unwrap(
+                        chatMemoryStore) instanceof IncrementalChatMemoryStore store ? store : null;
                 return new ChatMemoryProvider() {
                     @Override
                     public ChatMemory get(Object memoryId) {
-                        return MessageWindowChatMemory.builder()
+                        MessageWindowChatMemory chatMemory = MessageWindowChatMemory.builder()
                                 .maxMessages(maxMessages)
                                 .id(memoryId)
                                 .chatMemoryStore(chatMemoryStore)
                                 .build();
+                        if (incrementalStore != null) {
+                            return new IncrementalMessageWindowChatMemory(chatMemory, incrementalStore, maxMessages);
+                        }
+                        return chatMemory;
                     }
                 };
             }
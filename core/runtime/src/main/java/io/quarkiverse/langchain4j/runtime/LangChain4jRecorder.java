@@ -1,12 +1,25 @@
 package io.quarkiverse.langchain4j.runtime;
 
 import io.quarkiverse.langchain4j.QuarkusPromptTemplateFactory;
+import io.quarkiverse.langchain4j.runtime.aiservice.ChatAdmissionController;
+import io.quarkiverse.langchain4j.runtime.config.LangChain4jConfig;
+import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
 public class LangChain4jRecorder {
 
+    private final RuntimeValue<LangChain4jConfig> runtimeConfig;
+
+    public LangChain4jRecorder(RuntimeValue<LangChain4jConfig> runtimeConfig) {
+        this.runtimeConfig = runtimeConfig;
+    }
+
+    public void initAdmissionControl() {
+        ChatAdmissionController.initialize(runtimeConfig.getValue().aiService().admission());
+    }
+
     public void cleanUp(ShutdownContext shutdown) {
         shutdown.addShutdownTask(new Runnable() {
             @Override
@@ -15,6 +28,7 @@ public class LangChain4jRecorder {
                 QuarkusPromptTemplateFactory.clear();
                 AiServicesRecorder.clearMetadata();
                 ToolsRecorder.clearMetadata();
+                ChatAdmissionController.clear();
             }
         });
     }
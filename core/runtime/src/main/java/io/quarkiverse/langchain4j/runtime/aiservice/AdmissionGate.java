@@ -0,0 +1,104 @@
+package io.quarkiverse.langchain4j.runtime.aiservice;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import io.quarkiverse.langchain4j.runtime.ChatAdmissionRejectedException;
+
+/**
+ * Enforces the admission limits of a model or an AI service: a budget of tokens per minute and a maximum number of
+ * concurrent requests.
+ * <p>
+ * The token budget is a token bucket refilled continuously, implemented as a generic cell rate algorithm: a single
+ * timestamp tells when all the tokens used so far will have been replenished, so that admitting a request only reads
+ * it, and recording the tokens used by a response only advances it with a compare-and-set.
+ * As the tokens used by a request are only known once the response is received, a request is admitted as long as the
+ * budget is not exhausted, and the budget may temporarily go into debt.
+ */
+final class AdmissionGate {
+
+    private static final long WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final String name;
+    private final long nanosPerToken;
+    private final AtomicLong replenishedAt;
+    private final Semaphore concurrentRequests;
+
+    /**
+     * @param tokensPerMinute the token budget, or {@code 0} if unlimited
+     * @param maxConcurrentRequests the maximum number of concurrent requests, or {@code 0} if unlimited
+     */
+    AdmissionGate(String name, int tokensPerMinute, int maxConcurrentRequests) {
+        this.name = name;
+        this.nanosPerToken = tokensPerMinute > 0 ? WINDOW_NANOS / tokensPerMinute : 0;
+        this.replenishedAt = new AtomicLong(System.nanoTime());
+        this.concurrentRequests = maxConcurrentRequests > 0 ? new Semaphore(maxConcurrentRequests, true) : null;
+    }
+
+    /**
+     * Admits a request, waiting until the deadline if allowed to.
+     * Once admitted, {@link #release()} must be called when the request completes.
+     *
+     * @throws ChatAdmissionRejectedException if the request cannot be admitted in time
+     */
+    void acquire(boolean mayWait, long deadlineNanos) {
+        if (nanosPerToken > 0) {
+            awaitTokens(mayWait, deadlineNanos);
+        }
+        if (concurrentRequests != null) {
+            boolean acquired;
+            try {
+                acquired = mayWait
+                        ? concurrentRequests.tryAcquire(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS)
+                        : concurrentRequests.tryAcquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                acquired = false;
+            }
+            if (!acquired) {
+                throw new ChatAdmissionRejectedException(name, "too many concurrent requests");
+            }
+        }
+    }
+
+    void release() {
+        if (concurrentRequests != null) {
+            concurrentRequests.release();
+        }
+    }
+
+    /**
+     * Consumes the tokens used by a request from the budget.
+     */
+    void recordUsage(int tokens) {
+        if (nanosPerToken == 0 || tokens <= 0) {
+            return;
+        }
+        long cost = tokens * nanosPerToken;
+        long now = System.nanoTime();
+        long current;
+        do {
+            current = replenishedAt.get();
+        } while (!replenishedAt.compareAndSet(current, Math.max(current, now) + cost));
+    }
+
+    private void awaitTokens(boolean mayWait, long deadlineNanos) {
+        while (true) {
+            long now = System.nanoTime();
+            // the budget is exhausted while more than a minute worth of tokens remains to be replenished
+            long wait = replenishedAt.get() - now - WINDOW_NANOS;
+            if (wait <= 0) {
+                return;
+            }
+            if (!mayWait || now + wait - deadlineNanos > 0) {
+                throw new ChatAdmissionRejectedException(name, "the budget of tokens per minute is exhausted");
+            }
+            LockSupport.parkNanos(this, wait);
+            if (Thread.currentThread().isInterrupted()) {
+                throw new ChatAdmissionRejectedException(name, "interrupted while waiting for the budget of tokens");
+            }
+        }
+    }
+}
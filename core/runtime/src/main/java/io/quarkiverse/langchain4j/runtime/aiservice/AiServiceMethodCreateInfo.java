@@ -57,6 +57,7 @@ public final class AiServiceMethodCreateInfo {
     // these are populated when the AiService method is first called which can happen on any thread
     private transient final List<ToolSpecification> toolSpecifications = new CopyOnWriteArrayList<>();
     private transient final Map<String, ToolExecutor> toolExecutors = new ConcurrentHashMap<>();
+    private transient volatile ToolCatalog toolCatalog;
 
     // Don't cache the instances, because of scope issues (some will need to be re-queried)
     private transient Class<? extends AiResponseAugmenter<?>> augmenter;
@@ -202,6 +203,18 @@ public final class AiServiceMethodCreateInfo {
         return toolExecutors;
     }
 
+    /**
+     * Returns the snapshot of the given tools, which is only taken again when they change.
+     */
+    ToolCatalog toolCatalog(List<ToolSpecification> specifications, Map<String, ToolExecutor> executors) {
+        ToolCatalog catalog = toolCatalog;
+        if (catalog == null || !catalog.isTakenFrom(specifications, executors)) {
+            catalog = ToolCatalog.of(specifications, executors);
+            toolCatalog = catalog;
+        }
+        return catalog;
+    }
+
     public InputGuardrailsLiteral getInputGuardrails() {
         return inputGuardrails;
     }
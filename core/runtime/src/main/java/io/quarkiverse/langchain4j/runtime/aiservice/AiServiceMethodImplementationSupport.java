@@ -31,9 +31,13 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
 import org.eclipse.microprofile.config.ConfigProvider;
@@ -268,22 +272,30 @@ public class AiServiceMethodImplementationSupport {
 
         boolean hasMethodSpecificTools = methodCreateInfo.getToolClassInfo() != null
                 && !methodCreateInfo.getToolClassInfo().isEmpty();
-        List<ToolSpecification> toolSpecifications = hasMethodSpecificTools ? methodCreateInfo.getToolSpecifications()
-                : context.toolService.toolSpecifications();
-        Map<String, ToolExecutor> toolExecutors = hasMethodSpecificTools ? methodCreateInfo.getToolExecutors()
-                : context.toolService.toolExecutors();
-        Map<String, ReturnBehavior> toolReturnBehaviors = new HashMap<>();
-
-        toolSpecifications = toolSpecifications != null ? new ArrayList<>(toolSpecifications) : new ArrayList<>();
-        toolExecutors = toolExecutors != null ? new HashMap<>(toolExecutors) : new HashMap<>();
-        for (ToolProvider toolProvider : context.toolService.toolProviders()) {
+        // the static tools are shared by all the invocations, they are only copied when tool providers add their tools
+        ToolCatalog toolCatalog = methodCreateInfo.toolCatalog(
+                hasMethodSpecificTools ? methodCreateInfo.getToolSpecifications() : context.toolService.toolSpecifications(),
+                hasMethodSpecificTools ? methodCreateInfo.getToolExecutors() : context.toolService.toolExecutors());
+        List<ToolSpecification> toolSpecifications = toolCatalog.toolSpecifications();
+        Map<String, ToolExecutor> toolExecutors = toolCatalog.toolExecutors();
+        Map<String, ReturnBehavior> toolReturnBehaviors = Collections.emptyMap();
+
+        var toolProviders = context.toolService.toolProviders();
+        if (!toolProviders.isEmpty()) {
+            toolSpecifications = new ArrayList<>(toolSpecifications);
+            toolExecutors = new HashMap<>(toolExecutors);
+            toolReturnBehaviors = new HashMap<>();
             ToolProviderRequest request = new QuarkusToolProviderRequest(invocationContext, userMessage,
                     methodCreateInfo.getMcpClientNames());
-            ToolProviderResult result = toolProvider.provideTools(request);
-            result.aiServiceTools().stream().forEach(tool -> toolReturnBehaviors.put(tool.name(), tool.returnBehavior()));
-            for (ToolSpecification specification : result.tools().keySet()) {
-                toolSpecifications.add(specification);
-                toolExecutors.put(specification.name(), result.tools().get(specification));
+            for (ToolProvider toolProvider : toolProviders) {
+                ToolProviderResult result = toolProvider.provideTools(request);
+                for (var tool : result.aiServiceTools()) {
+                    toolReturnBehaviors.put(tool.name(), tool.returnBehavior());
+                }
+                for (Map.Entry<ToolSpecification, ToolExecutor> tool : result.tools().entrySet()) {
+                    toolSpecifications.add(tool.getKey());
+                    toolExecutors.put(tool.getKey().name(), tool.getValue());
+                }
             }
         }
 
@@ -426,11 +438,15 @@ public class AiServiceMethodImplementationSupport {
         ChatRequest chatRequest = context.chatRequestTransformer
                 .apply(createChatRequest(context, methodCreateInfo, methodArgs, messagesToSend, toolSpecifications),
                         memoryId);
-        ChatExecutor chatExecutor = ChatExecutor.builder(context.effectiveChatModel(methodCreateInfo, methodArgs))
-                .chatRequest(chatRequest)
-                .invocationContext(invocationContext)
-                .eventListenerRegistrar(context.eventListenerRegistrar)
-                .build();
+        ChatAdmissionController admissionController = ChatAdmissionController.get();
+        String chatModelName = context.effectiveChatModelName(methodCreateInfo, methodArgs);
+        ChatExecutor chatExecutor = admissionController.controlled(
+                ChatExecutor.builder(context.effectiveChatModel(methodCreateInfo, methodArgs))
+                        .chatRequest(chatRequest)
+                        .invocationContext(invocationContext)
+                        .eventListenerRegistrar(context.eventListenerRegistrar)
+                        .build(),
+                chatModelName, context.aiServiceClass);
 
         ChatResponse response = chatExecutor.execute();
 
@@ -482,6 +498,15 @@ public class AiServiceMethodImplementationSupport {
             if (maxToolCallsPerResponse > 0) {
                 log.debugv("maxToolCallsPerResponse limit set to {0}", maxToolCallsPerResponse);
             }
+            List<ToolExecutionResult> concurrentToolExecutionResults = null;
+            if (toolExecutionRequests.size() > 1 && shouldExecuteToolsConcurrently(context)) {
+                // with concurrent execution the limit has to be enforced before any tool is started
+                if (maxToolCallsPerResponse > 0 && toolExecutionRequests.size() > maxToolCallsPerResponse) {
+                    throw new ToolCallsLimitExceededException(maxToolCallsPerResponse, toolExecutionRequests.size());
+                }
+                concurrentToolExecutionResults = executeToolsConcurrently(context, invocationContext, toolExecutors,
+                        toolExecutionRequests);
+            }
             int toolCallsCount = 0;
             List<ReturnBehavior> returnBehaviors = new ArrayList<>(toolExecutionRequests.size());
             boolean anyToolErrored = false;
@@ -489,11 +514,16 @@ public class AiServiceMethodImplementationSupport {
                 if (maxToolCallsPerResponse > 0 && toolCallsCount >= maxToolCallsPerResponse) {
                     throw new ToolCallsLimitExceededException(maxToolCallsPerResponse, toolExecutionRequests.size());
                 }
-                toolCallsCount++;
-                log.debugv("Attempting to execute tool {0}", toolExecutionRequest);
                 ToolExecutor toolExecutor = toolExecutors.get(toolExecutionRequest.name());
-                ToolExecutionResult toolExecutionResult = context.toolService.executeTool(
-                        invocationContext, toolExecutors, toolExecutionRequest, null, null);
+                ToolExecutionResult toolExecutionResult;
+                if (concurrentToolExecutionResults != null) {
+                    toolExecutionResult = concurrentToolExecutionResults.get(toolCallsCount);
+                } else {
+                    log.debugv("Attempting to execute tool {0}", toolExecutionRequest);
+                    toolExecutionResult = context.toolService.executeTool(
+                            invocationContext, toolExecutors, toolExecutionRequest, null, null);
+                }
+                toolCallsCount++;
 
                 // New firing
                 context.eventListenerRegistrar.fireEvent(
@@ -625,7 +655,8 @@ public class AiServiceMethodImplementationSupport {
                     .messages(committableChatMemory.messages())
                     .parameters(effectiveParams)
                     .build();
-            response = effectiveChatModel.chat(request);
+            response = admissionController.execute(chatModelName, context.aiServiceClass,
+                    () -> effectiveChatModel.chat(request));
             log.debug("AI response obtained");
 
             // New firing
@@ -714,6 +745,81 @@ public class AiServiceMethodImplementationSupport {
         return augmentedResponse;
     }
 
+    /**
+     * Executes all the tool requests of a single LLM response on the (context propagating) executor and returns the
+     * results in the same order as the requests.
+     * <p>
+     * As the calling thread may itself belong to the pool of the executor, it never just waits for the tasks: it runs
+     * the first request and then any request the executor did not start yet, so that the execution completes even when
+     * all the threads of the pool are busy.
+     * <p>
+     * When a tool fails, the requests that did not start yet are skipped and the ones already running are awaited
+     * before the failure is rethrown, with the failures of the other tools attached as suppressed exceptions.
+     */
+    private static List<ToolExecutionResult> executeToolsConcurrently(QuarkusAiServiceContext context,
+            InvocationContext invocationContext, Map<String, ToolExecutor> toolExecutors,
+            List<ToolExecutionRequest> toolExecutionRequests) {
+        Executor executor = createExecutor();
+        AtomicBoolean failed = new AtomicBoolean();
+        List<FutureTask<ToolExecutionResult>> tasks = new ArrayList<>(toolExecutionRequests.size());
+        for (ToolExecutionRequest toolExecutionRequest : toolExecutionRequests) {
+            log.debugv("Attempting to execute tool {0} concurrently", toolExecutionRequest);
+            tasks.add(new FutureTask<>(() -> {
+                if (failed.get()) {
+                    throw new CancellationException();
+                }
+                return context.toolService.executeTool(invocationContext, toolExecutors, toolExecutionRequest, null, null);
+            }));
+        }
+        for (int i = 1; i < tasks.size(); i++) {
+            executor.execute(tasks.get(i));
+        }
+        List<ToolExecutionResult> results = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            FutureTask<ToolExecutionResult> task = tasks.get(i);
+            // does nothing if the task was already started by the executor
+            task.run();
+            try {
+                results.add(task.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failed.set(true);
+                throw new RuntimeException(e);
+            } catch (ExecutionException e) {
+                failed.set(true);
+                Throwable failure = e.getCause();
+                awaitRemainingTools(tasks.subList(i + 1, tasks.size()), failure);
+                if (failure instanceof RuntimeException re) {
+                    throw re;
+                } else if (failure instanceof Error error) {
+                    throw error;
+                }
+                throw new RuntimeException(failure);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Waits for the tools still running after a failure, the ones that did not start yet being skipped.
+     */
+    private static void awaitRemainingTools(List<FutureTask<ToolExecutionResult>> tasks, Throwable failure) {
+        for (FutureTask<ToolExecutionResult> task : tasks) {
+            // skips the tool if it was not started by the executor yet
+            task.run();
+            try {
+                task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                if (!(e.getCause() instanceof CancellationException)) {
+                    failure.addSuppressed(e.getCause());
+                }
+            }
+        }
+    }
+
     private static boolean resolvesToType(Object o, Type returnType) {
         return o != null && returnType instanceof Class
                 && ((Class) returnType).isAssignableFrom(o.getClass());
@@ -1051,13 +1157,7 @@ public class AiServiceMethodImplementationSupport {
             }
 
             if (createInfo.getResponseSchemaInfo().enabled()) {
-                // No response schema placeholder found in the @SystemMessage and @UserMessage,
-                // concat it to the UserMessage.
-                if (!createInfo.getResponseSchemaInfo().isInSystemMessage() && !hasResponseSchema
-                        && !supportsJsonSchema) {
-                    templateText = templateText.concat(ResponseSchemaUtil.placeholder());
-                }
-
+                templateText = userMessageTemplateText(createInfo, templateText, supportsJsonSchema);
                 templateVariables.put(ResponseSchemaUtil.templateParam(),
                         createInfo.getResponseSchemaInfo().outputFormatInstructions());
             }
@@ -1092,6 +1192,24 @@ public class AiServiceMethodImplementationSupport {
         }
     }
 
+    /**
+     * Returns the text of the user message template as it is parsed when the method is invoked, that is with the
+     * response schema placeholder appended when neither the system message nor the user message contain it.
+     */
+    public static String userMessageTemplateText(AiServiceMethodCreateInfo createInfo, String templateText,
+            boolean supportsJsonSchema) {
+        AiServiceMethodCreateInfo.ResponseSchemaInfo responseSchemaInfo = createInfo.getResponseSchemaInfo();
+        boolean hasResponseSchema = responseSchemaInfo.isInUserMessage().orElse(false)
+                || hasResponseSchema(templateText);
+        if (responseSchemaInfo.enabled() && !responseSchemaInfo.isInSystemMessage() && !hasResponseSchema
+                && !supportsJsonSchema) {
+            // No response schema placeholder found in the @SystemMessage and @UserMessage,
+            // concat it to the UserMessage.
+            return templateText.concat(ResponseSchemaUtil.placeholder());
+        }
+        return templateText;
+    }
+
     private static UserMessage toUserMessage(String userName, List<Content> finalContents) {
         if (userName == null) {
             return UserMessage.userMessage(finalContents);
@@ -1328,6 +1446,15 @@ public class AiServiceMethodImplementationSupport {
                 .orElse(DEFAULT_MAX_TOOL_CALLS_PER_RESPONSE);
     }
 
+    private static boolean shouldExecuteToolsConcurrently(QuarkusAiServiceContext context) {
+        if (context.executeToolsConcurrently != null) {
+            return context.executeToolsConcurrently;
+        }
+        return ConfigProvider.getConfig()
+                .getOptionalValue("quarkus.langchain4j.ai-service.execute-tools-concurrently", Boolean.class)
+                .orElse(false);
+    }
+
     private static Executor createExecutor() {
         InstanceHandle<ManagedExecutor> executor = Arc.container().instance(ManagedExecutor.class);
         return executor.isAvailable() ? executor.get() : Infrastructure.getDefaultExecutor();
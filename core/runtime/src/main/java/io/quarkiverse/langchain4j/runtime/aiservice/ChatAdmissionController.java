@@ -0,0 +1,171 @@
+package io.quarkiverse.langchain4j.runtime.aiservice;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.guardrail.ChatExecutor;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.output.TokenUsage;
+import io.quarkiverse.langchain4j.runtime.NamedConfigUtil;
+import io.quarkiverse.langchain4j.runtime.config.AdmissionControlConfig;
+import io.quarkiverse.langchain4j.runtime.config.AdmissionLimitsConfig;
+import io.vertx.core.Context;
+
+/**
+ * Admits the chat requests of the AI services according to the limits configured for their model and for the AI
+ * service itself, so that bursts are absorbed locally instead of being rejected by the rate limits of the provider.
+ * <p>
+ * A request waits for the limits to admit it for at most the configured maximum wait, and fails with a
+ * {@link io.quarkiverse.langchain4j.runtime.ChatAdmissionRejectedException} otherwise.
+ * The tokens reported by each response are then consumed from the budgets of the request.
+ */
+public final class ChatAdmissionController {
+
+    private static final String DEFAULT_MODEL_KEY = "default";
+
+    private static final ChatAdmissionController UNLIMITED = new ChatAdmissionController(Duration.ZERO, Map.of(),
+            Map.of());
+
+    private static volatile ChatAdmissionController instance = UNLIMITED;
+
+    private final long maxWaitNanos;
+    private final Map<String, AdmissionGate> modelGates;
+    private final Map<String, AdmissionGate> aiServiceGates;
+
+    private ChatAdmissionController(Duration maxWait, Map<String, AdmissionGate> modelGates,
+            Map<String, AdmissionGate> aiServiceGates) {
+        this.maxWaitNanos = maxWait.isNegative() ? 0 : maxWait.toNanos();
+        this.modelGates = modelGates;
+        this.aiServiceGates = aiServiceGates;
+    }
+
+    /**
+     * Applies the given limits to the chat requests sent from now on, called by the recorder when the application
+     * starts.
+     */
+    public static void initialize(AdmissionControlConfig config) {
+        instance = new ChatAdmissionController(config.maxWait(), gates("model", config.model()),
+                gates("AI service", config.aiService()));
+    }
+
+    /**
+     * Drops the limits and the budgets, so that a restarted application does not reuse those of the previous one.
+     */
+    public static void clear() {
+        instance = UNLIMITED;
+    }
+
+    static ChatAdmissionController get() {
+        return instance;
+    }
+
+    /**
+     * Returns a {@link ChatExecutor} admitting each of its executions, including the retries of the output guardrails,
+     * or the given executor if no limit applies.
+     */
+    ChatExecutor controlled(ChatExecutor chatExecutor, String modelName, Class<?> aiServiceClass) {
+        AdmissionGate modelGate = modelGate(modelName);
+        AdmissionGate aiServiceGate = aiServiceGate(aiServiceClass);
+        if (modelGate == null && aiServiceGate == null) {
+            return chatExecutor;
+        }
+        return new ChatExecutor() {
+            @Override
+            public ChatResponse execute() {
+                return ChatAdmissionController.this.execute(modelGate, aiServiceGate, chatExecutor::execute);
+            }
+
+            @Override
+            public ChatResponse execute(List<ChatMessage> chatMessages) {
+                return ChatAdmissionController.this.execute(modelGate, aiServiceGate,
+                        () -> chatExecutor.execute(chatMessages));
+            }
+        };
+    }
+
+    /**
+     * Executes a chat request once the limits of its model and AI service admit it.
+     */
+    ChatResponse execute(String modelName, Class<?> aiServiceClass, Supplier<ChatResponse> chat) {
+        return execute(modelGate(modelName), aiServiceGate(aiServiceClass), chat);
+    }
+
+    private ChatResponse execute(AdmissionGate modelGate, AdmissionGate aiServiceGate, Supplier<ChatResponse> chat) {
+        if (modelGate == null && aiServiceGate == null) {
+            return chat.get();
+        }
+        // blocking the event loop would be worse than rejecting the request
+        boolean mayWait = maxWaitNanos > 0 && !Context.isOnEventLoopThread();
+        long deadlineNanos = System.nanoTime() + maxWaitNanos;
+        if (aiServiceGate != null) {
+            aiServiceGate.acquire(mayWait, deadlineNanos);
+        }
+        if (modelGate != null) {
+            try {
+                modelGate.acquire(mayWait, deadlineNanos);
+            } catch (RuntimeException e) {
+                if (aiServiceGate != null) {
+                    aiServiceGate.release();
+                }
+                throw e;
+            }
+        }
+        ChatResponse response = null;
+        try {
+            response = chat.get();
+            return response;
+        } finally {
+            int tokens = usedTokens(response);
+            if (aiServiceGate != null) {
+                aiServiceGate.release();
+                aiServiceGate.recordUsage(tokens);
+            }
+            if (modelGate != null) {
+                modelGate.release();
+                modelGate.recordUsage(tokens);
+            }
+        }
+    }
+
+    private AdmissionGate modelGate(String modelName) {
+        if (modelGates.isEmpty()) {
+            return null;
+        }
+        return modelGates.get(modelName == null || NamedConfigUtil.isDefault(modelName) ? DEFAULT_MODEL_KEY : modelName);
+    }
+
+    private AdmissionGate aiServiceGate(Class<?> aiServiceClass) {
+        if (aiServiceGates.isEmpty() || aiServiceClass == null) {
+            return null;
+        }
+        return aiServiceGates.get(aiServiceClass.getName());
+    }
+
+    private static int usedTokens(ChatResponse response) {
+        if (response == null) {
+            return 0;
+        }
+        TokenUsage tokenUsage = response.tokenUsage();
+        if (tokenUsage == null || tokenUsage.totalTokenCount() == null) {
+            return 0;
+        }
+        return tokenUsage.totalTokenCount();
+    }
+
+    private static Map<String, AdmissionGate> gates(String kind, Map<String, AdmissionLimitsConfig> limits) {
+        Map<String, AdmissionGate> gates = new HashMap<>();
+        for (Map.Entry<String, AdmissionLimitsConfig> entry : limits.entrySet()) {
+            int tokensPerMinute = entry.getValue().tokensPerMinute().orElse(0);
+            int maxConcurrentRequests = entry.getValue().maxConcurrentRequests().orElse(0);
+            if (tokensPerMinute > 0 || maxConcurrentRequests > 0) {
+                gates.put(entry.getKey(),
+                        new AdmissionGate(kind + " '" + entry.getKey() + "'", tokensPerMinute, maxConcurrentRequests));
+            }
+        }
+        return gates;
+    }
+}
@@ -14,10 +14,16 @@ class DefaultCommittableChatMemory implements CommittableChatMemory {
 
     private final ChatMemory delegate;
     private final List<ChatMessage> newMessages;
+    /**
+     * The messages of the delegate when this memory was created, only kept when the delegate can commit the messages
+     * added since then
+     */
+    private final List<ChatMessage> loadedMessages;
 
     public DefaultCommittableChatMemory(ChatMemory delegate) {
         this.delegate = delegate;
         this.newMessages = new ArrayList<>(delegate.messages());
+        this.loadedMessages = delegate instanceof IncrementalMessageWindowChatMemory ? List.copyOf(newMessages) : null;
     }
 
     @Override
@@ -74,10 +80,15 @@ class DefaultCommittableChatMemory implements CommittableChatMemory {
     }
 
     /**
-     * Commits all buffered messages to the delegate by calling {@link ChatMemory#set}.
+     * Commits all buffered messages to the delegate by calling {@link ChatMemory#set}, unless the delegate is able to
+     * only store the messages appended since this memory was created.
      */
     @Override
     public void commit() {
+        if (loadedMessages != null
+                && ((IncrementalMessageWindowChatMemory) delegate).appendMessages(loadedMessages, newMessages)) {
+            return;
+        }
         delegate.set(newMessages);
     }
 }
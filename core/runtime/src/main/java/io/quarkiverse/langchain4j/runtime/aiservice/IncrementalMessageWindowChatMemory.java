@@ -0,0 +1,115 @@
+package io.quarkiverse.langchain4j.runtime.aiservice;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.memory.chat.MessageWindowChatMemory;
+import io.quarkiverse.langchain4j.IncrementalChatMemoryStore;
+
+/**
+ * A {@link MessageWindowChatMemory} backed by an {@link IncrementalChatMemoryStore}, which lets
+ * {@link DefaultCommittableChatMemory} commit only the messages added during an invocation.
+ */
+public class IncrementalMessageWindowChatMemory implements ChatMemory {
+
+    private final ChatMemory delegate;
+    private final IncrementalChatMemoryStore store;
+    private final int maxMessages;
+
+    public IncrementalMessageWindowChatMemory(MessageWindowChatMemory delegate, IncrementalChatMemoryStore store,
+            int maxMessages) {
+        this.delegate = delegate;
+        this.store = store;
+        this.maxMessages = maxMessages;
+    }
+
+    @Override
+    public Object id() {
+        return delegate.id();
+    }
+
+    @Override
+    public void add(ChatMessage message) {
+        delegate.add(message);
+    }
+
+    @Override
+    public List<ChatMessage> messages() {
+        return delegate.messages();
+    }
+
+    @Override
+    public void set(Iterable<ChatMessage> messages) {
+        delegate.set(messages);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    /**
+     * Stores {@code messages} by only appending the messages that follow {@code loadedMessages}, evicting the oldest
+     * messages the same way {@link MessageWindowChatMemory} does.
+     *
+     * @param loadedMessages the messages of the memory when the invocation started
+     * @param messages the messages of the memory at the end of the invocation
+     * @return {@code false} if {@code messages} do not start with {@code loadedMessages}, in which case nothing has been
+     *         stored
+     */
+    boolean appendMessages(List<ChatMessage> loadedMessages, List<ChatMessage> messages) {
+        List<ChatMessage> loaded = new ArrayList<>(loadedMessages.size());
+        SystemMessage loadedSystemMessage = split(loadedMessages, loaded);
+        List<ChatMessage> current = new ArrayList<>(messages.size());
+        SystemMessage systemMessage = split(messages, current);
+        if (!Objects.equals(loadedSystemMessage, systemMessage)
+                || loaded.size() > current.size()
+                || !current.subList(0, loaded.size()).equals(loaded)) {
+            return false;
+        }
+        if (loaded.size() == current.size()) {
+            return true;
+        }
+
+        int retained = current.size() - evictedCount(current, systemMessage != null ? maxMessages - 1 : maxMessages);
+        List<ChatMessage> appended = current.subList(Math.max(loaded.size(), current.size() - retained),
+                current.size());
+        store.appendMessages(id(), new ArrayList<>(appended), retained);
+        return true;
+    }
+
+    private static SystemMessage split(List<ChatMessage> messages, List<ChatMessage> others) {
+        SystemMessage systemMessage = null;
+        for (ChatMessage message : messages) {
+            if (message instanceof SystemMessage sm) {
+                systemMessage = sm;
+            } else {
+                others.add(message);
+            }
+        }
+        return systemMessage;
+    }
+
+    /**
+     * Mirrors the eviction of {@link MessageWindowChatMemory}: the oldest messages are evicted first, along with the
+     * tool results that follow an evicted AI message.
+     */
+    private static int evictedCount(List<ChatMessage> messages, int maxMessages) {
+        int evicted = 0;
+        while (messages.size() - evicted > Math.max(maxMessages, 0)) {
+            ChatMessage message = messages.get(evicted++);
+            if (message instanceof AiMessage aiMessage && aiMessage.hasToolExecutionRequests()) {
+                while (evicted < messages.size() && messages.get(evicted) instanceof ToolExecutionResultMessage) {
+                    evicted++;
+                }
+            }
+        }
+        return evicted;
+    }
+}
@@ -0,0 +1,116 @@
+package io.quarkiverse.langchain4j.runtime.aiservice;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.logging.Logger;
+
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+/**
+ * Runs the callbacks of streamed responses on a shared pool while preserving their order.
+ * <p>
+ * Each stream gets its own {@link #newQueue() serial queue}: the tasks of a queue run one after the other, in
+ * submission order, but queues do not hold a thread while they are empty, so any number of concurrent streams share
+ * the threads of the pool.
+ */
+final class OrderedDispatcher {
+
+    private static final Logger log = Logger.getLogger(OrderedDispatcher.class);
+
+    private static volatile OrderedDispatcher shared;
+
+    private final Executor pool;
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder dispatchLatencyNanos = new LongAdder();
+
+    OrderedDispatcher(Executor pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * @return the dispatcher running on the default worker pool
+     */
+    static OrderedDispatcher shared() {
+        OrderedDispatcher dispatcher = shared;
+        if (dispatcher == null) {
+            synchronized (OrderedDispatcher.class) {
+                dispatcher = shared;
+                if (dispatcher == null) {
+                    dispatcher = new OrderedDispatcher(Infrastructure.getDefaultWorkerPool());
+                    OrderedDispatcherMetrics.registerIfAvailable(dispatcher);
+                    shared = dispatcher;
+                }
+            }
+        }
+        return dispatcher;
+    }
+
+    /**
+     * @return a new queue whose tasks run in submission order
+     */
+    Executor newQueue() {
+        return new SerialQueue();
+    }
+
+    /**
+     * @return the number of tasks submitted to the queues that have not run yet
+     */
+    int queueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * @return the number of tasks that have run
+     */
+    long dispatched() {
+        return dispatched.sum();
+    }
+
+    /**
+     * @return the cumulated time the tasks that have run waited in their queue
+     */
+    long dispatchLatencyNanos() {
+        return dispatchLatencyNanos.sum();
+    }
+
+    private final class SerialQueue implements Executor, Runnable {
+
+        private final Queue<Task> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(new Task(command, System.nanoTime()));
+            queueDepth.incrementAndGet();
+            // only the submitter that makes the queue non-empty schedules the drain, so at most one thread runs the
+            // tasks of the queue at a time
+            if (pending.getAndIncrement() == 0) {
+                pool.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            do {
+                Task task = tasks.poll();
+                queueDepth.decrementAndGet();
+                dispatched.increment();
+                dispatchLatencyNanos.add(System.nanoTime() - task.submittedAt());
+                try {
+                    task.command().run();
+                } catch (Throwable t) {
+                    log.error("Unexpected failure while dispatching a streamed response", t);
+                }
+            } while (pending.decrementAndGet() != 0);
+        }
+    }
+
+    private record Task(Runnable command, long submittedAt) {
+    }
+}
@@ -0,0 +1,44 @@
+package io.quarkiverse.langchain4j.runtime.aiservice;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Exposes the statistics of the {@link OrderedDispatcher} as Micrometer meters.
+ * Only used when Micrometer is available.
+ */
+final class OrderedDispatcherMetrics {
+
+    private static final boolean MICROMETER_AVAILABLE = isMicrometerAvailable();
+
+    private OrderedDispatcherMetrics() {
+    }
+
+    static void registerIfAvailable(OrderedDispatcher dispatcher) {
+        if (MICROMETER_AVAILABLE) {
+            register(dispatcher);
+        }
+    }
+
+    private static void register(OrderedDispatcher dispatcher) {
+        Gauge.builder("langchain4j.aiservice.streaming.dispatch.queue.depth", dispatcher, OrderedDispatcher::queueDepth)
+                .description("Number of streamed response callbacks waiting to be dispatched to a worker thread")
+                .register(Metrics.globalRegistry);
+        FunctionTimer.builder("langchain4j.aiservice.streaming.dispatch.latency", dispatcher,
+                OrderedDispatcher::dispatched, OrderedDispatcher::dispatchLatencyNanos, TimeUnit.NANOSECONDS)
+                .description("Time streamed response callbacks wait before being dispatched to a worker thread")
+                .register(Metrics.globalRegistry);
+    }
+
+    private static boolean isMicrometerAvailable() {
+        try {
+            Class.forName("io.micrometer.core.instrument.Metrics", false, OrderedDispatcherMetrics.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
@@ -4,8 +4,11 @@ import java.lang.annotation.Annotation;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import jakarta.enterprise.context.Dependent;
 import jakarta.enterprise.inject.Any;
 import jakarta.enterprise.inject.Instance;
 
@@ -19,6 +22,7 @@ import dev.langchain4j.service.tool.ToolService;
 import dev.langchain4j.service.tool.search.ToolSearchService;
 import io.quarkiverse.langchain4j.ModelName;
 import io.quarkiverse.langchain4j.RegisterAiService;
+import io.quarkiverse.langchain4j.runtime.NamedConfigUtil;
 import io.quarkiverse.langchain4j.spi.DefaultMemoryIdProvider;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.InstanceHandle;
@@ -31,12 +35,26 @@ public class QuarkusAiServiceContext extends AiServiceContext {
     public Integer maxToolCallingRoundTrips;
     public Integer maxToolCallsPerResponse;
     public boolean allowContinuousForcedToolCalling;
+    public Boolean executeToolsConcurrently;
     public DefaultMemoryIdProvider defaultMemoryIdProvider;
     public ChatMemoryFlushStrategy chatMemoryFlushStrategy = ChatMemoryFlushStrategy.DEFERRED;
     public ToolSearchService toolSearchService;
+    /**
+     * The name of the configured chat model used by default, {@code null} if the AI service was not registered with
+     * {@link RegisterAiService}
+     */
+    public String chatModelName;
 
     private boolean hasChatMemoryProvider;
 
+    /**
+     * The models resolved for the names passed to the {@link ModelName} parameters of the methods, so that the
+     * container is only looked up the first time a name is used. {@link Dependent} models are never kept, as the
+     * container creates a new instance for each lookup.
+     */
+    private final Map<String, ChatModel> namedChatModels = new ConcurrentHashMap<>();
+    private final Map<String, StreamingChatModel> namedStreamingChatModels = new ConcurrentHashMap<>();
+
     // needed by Arc
     public QuarkusAiServiceContext() {
         super(null);
@@ -77,6 +95,8 @@ public class QuarkusAiServiceContext extends AiServiceContext {
      */
     public void close() {
         clearChatMemory();
+        namedChatModels.clear();
+        namedStreamingChatModels.clear();
     }
 
     public void clearChatMemory() {
@@ -141,15 +161,36 @@ public class QuarkusAiServiceContext extends AiServiceContext {
         return chatModel;
     }
 
+    /**
+     * @return the name of the chat model used by an invocation, {@link NamedConfigUtil#DEFAULT_NAME} for the default one
+     */
+    public String effectiveChatModelName(AiServiceMethodCreateInfo createInfo, Object[] methodArgs) {
+        if (createInfo.getOverrideChatModelParamPosition().isPresent()) {
+            String modelName = (String) methodArgs[createInfo.getOverrideChatModelParamPosition().get()];
+            if (modelName != null) {
+                return modelName;
+            }
+        }
+        return chatModelName != null ? chatModelName : NamedConfigUtil.DEFAULT_NAME;
+    }
+
     private ChatModel effectiveChatModel(String modelName) {
         if (modelName == null) {
             // happens when @ModelName parameter exists but the caller passed null
             return chatModel;
         }
+        ChatModel model = namedChatModels.get(modelName);
+        if (model != null) {
+            return model;
+        }
         InstanceHandle<ChatModel> instance = Arc.container().instance(ChatModel.class,
                 ModelName.Literal.of(modelName));
         if (instance.isAvailable()) {
-            return instance.get();
+            model = instance.get();
+            if (instance.getBean().getScope() != Dependent.class) {
+                namedChatModels.put(modelName, model);
+            }
+            return model;
         }
         Set<String> availableNames = new HashSet<>();
         for (Instance.Handle<ChatModel> handle : Arc.container().select(ChatModel.class, Any.Literal.INSTANCE)
@@ -180,10 +221,18 @@ public class QuarkusAiServiceContext extends AiServiceContext {
             // happens when @ModelName parameter exists but the caller passed null
             return streamingChatModel;
         }
+        StreamingChatModel model = namedStreamingChatModels.get(modelName);
+        if (model != null) {
+            return model;
+        }
         InstanceHandle<StreamingChatModel> instance = Arc.container().instance(StreamingChatModel.class,
                 ModelName.Literal.of(modelName));
         if (instance.isAvailable()) {
-            return instance.get();
+            model = instance.get();
+            if (instance.getBean().getScope() != Dependent.class) {
+                namedStreamingChatModels.put(modelName, model);
+            }
+            return model;
         }
         Set<String> availableNames = new HashSet<>();
         for (Instance.Handle<StreamingChatModel> handle : Arc.container().select(StreamingChatModel.class, Any.Literal.INSTANCE)
@@ -5,15 +5,16 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static io.quarkiverse.langchain4j.runtime.aiservice.ChatRequestParametersUtil.effectiveChatRequestParameters;
 import static java.util.Objects.nonNull;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
+import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.jboss.logging.Logger;
 
@@ -53,6 +54,9 @@ import dev.langchain4j.service.tool.ToolExecutor;
 import dev.langchain4j.service.tool.ToolServiceContext;
 import dev.langchain4j.service.tool.search.ToolSearchService;
 import io.quarkiverse.langchain4j.runtime.ToolCallsLimitExceededException;
+import io.quarkiverse.langchain4j.runtime.tool.QuarkusToolExecutor;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
 import io.vertx.core.Context;
 
 /**
@@ -90,7 +94,9 @@ public class QuarkusAiServiceStreamingResponseHandler implements StreamingChatRe
     private final boolean switchToWorkerForEmission;
     private final AiServiceMethodCreateInfo methodCreateInfo;
     private final Object[] methodArgs;
-    private final ExecutorService executor;
+    private final Executor executor;
+    private final StreamingTokenCoalescer coalescer;
+    private final StreamingMetrics metrics;
     private final AtomicBoolean cancelled;
     private volatile StreamingHandle streamingHandle = NoopStreamingHandle.INSTANCE;
 
@@ -148,10 +154,12 @@ public class QuarkusAiServiceStreamingResponseHandler implements StreamingChatRe
         if (executionContext == null) {
             // We do not have a context, but we still need to make sure we are not blocking the event loop and ordered
             // is respected.
-            executor = Executors.newSingleThreadExecutor();
+            executor = OrderedDispatcher.shared().newQueue();
         } else {
             executor = null;
         }
+        this.coalescer = createCoalescer();
+        this.metrics = startMetrics();
     }
 
     public QuarkusAiServiceStreamingResponseHandler(ChatRequest chatRequest, QuarkusAiServiceContext context,
@@ -167,7 +175,7 @@ public class QuarkusAiServiceStreamingResponseHandler implements StreamingChatRe
             List<ToolSpecification> toolSpecifications, Map<String, ToolExecutor> toolExecutors,
             ToolServiceContext toolSearchContext,
             boolean mustSwitchToWorkerThread, boolean switchToWorkerForEmission, Context executionContext,
-            ExecutorService executor, AiServiceMethodCreateInfo methodCreateInfo, Object[] methodArgs,
+            Executor executor, AiServiceMethodCreateInfo methodCreateInfo, Object[] methodArgs,
             AtomicBoolean cancelled) {
         this.chatRequest = ensureNotNull(chatRequest, "chatRequest");
         this.context = context;
@@ -194,6 +202,54 @@ public class QuarkusAiServiceStreamingResponseHandler implements StreamingChatRe
         this.methodCreateInfo = methodCreateInfo;
         this.methodArgs = methodArgs;
         this.cancelled = cancelled;
+        this.coalescer = createCoalescer();
+        this.metrics = startMetrics();
+    }
+
+    private StreamingTokenCoalescer createCoalescer() {
+        if (!switchToWorkerForEmission) {
+            return null;
+        }
+        Config config = ConfigProvider.getConfig();
+        if (!config.getOptionalValue("quarkus.langchain4j.ai-service.streaming-coalescing.enabled", Boolean.class)
+                .orElse(false)) {
+            return null;
+        }
+        Duration window = config
+                .getOptionalValue("quarkus.langchain4j.ai-service.streaming-coalescing.window", Duration.class)
+                .orElse(Duration.ZERO);
+        int maxSize = config
+                .getOptionalValue("quarkus.langchain4j.ai-service.streaming-coalescing.max-size", Integer.class)
+                .orElse(64);
+        return new StreamingTokenCoalescer(window, maxSize, executionContext, new Consumer<Runnable>() {
+            @Override
+            public void accept(Runnable runnable) {
+                executeOnWorkerThread(runnable, true);
+            }
+        });
+    }
+
+    private StreamingMetrics startMetrics() {
+        if (!StreamingMetrics.isEnabled()) {
+            return null;
+        }
+        String requestModel = chatRequest.parameters().modelName();
+        if (requestModel == null && context != null && methodCreateInfo != null) {
+            ChatRequestParameters defaultParameters = context.effectiveStreamingChatModel(methodCreateInfo, methodArgs)
+                    .defaultRequestParameters();
+            if (defaultParameters != null) {
+                requestModel = defaultParameters.modelName();
+            }
+        }
+        return StreamingMetrics.start(requestModel,
+                context != null && context.aiServiceClass != null ? context.aiServiceClass.getName() : null,
+                methodCreateInfo != null ? methodCreateInfo.getMethodName() : null);
+    }
+
+    private void recordChunk() {
+        if (metrics != null) {
+            metrics.onChunk();
+        }
     }
 
     private <T> void fireInvocationComplete(T result) {
@@ -239,7 +295,8 @@ public class QuarkusAiServiceStreamingResponseHandler implements StreamingChatRe
             streamingHandle.cancel();
             return;
         }
-        execute(new Runnable() {
+        recordChunk();
+        emit(new Runnable() {
             @Override
             public void run() {
                 partialResponseHandler.accept(partialResponse);
@@ -254,8 +311,9 @@ public class QuarkusAiServiceStreamingResponseHandler implements StreamingChatRe
             streamingHandle.cancel();
             return;
         }
+        recordChunk();
         if (partialThinkingHandler != null) {
-            execute(new Runnable() {
+            emit(new Runnable() {
                 @Override
                 public void run() {
                     partialThinkingHandler.accept(partialThinking);
@@ -282,8 +340,9 @@ public class QuarkusAiServiceStreamingResponseHandler implements StreamingChatRe
             streamingHandle.cancel();
             return;
         }
+        recordChunk();
         if (partialToolCallHandler != null) {
-            execute(new Runnable() {
+            emit(new Runnable() {
                 @Override
                 public void run() {
                     partialToolCallHandler.accept(partialToolCall);
@@ -316,7 +375,7 @@ public class QuarkusAiServiceStreamingResponseHandler implements StreamingChatRe
         return streamingHandle;
     }
 
-    private void executeTools(Runnable runnable) {
+    private void executeTools(List<ToolExecutionRequest> toolExecutionRequests, Runnable runnable) {
         Runnable safeRunnable = new Runnable() {
             @Override
             public void run() {
@@ -328,14 +387,32 @@ public class QuarkusAiServiceStreamingResponseHandler implements StreamingChatRe
             }
         };
 
-        if (mustSwitchToWorkerThread && Context.isOnEventLoopThread()) {
+        if (Context.isOnEventLoopThread() && requiresWorkerThread(toolExecutionRequests)) {
             executeOnWorkerThread(safeRunnable, false);
         } else {
             safeRunnable.run();
         }
     }
 
+    /**
+     * Emits a streamed token, coalescing the emissions dispatched to worker threads if enabled.
+     */
+    private void emit(Runnable runnable) {
+        if (coalescer != null && Context.isOnEventLoopThread()) {
+            coalescer.submit(runnable);
+        } else {
+            execute(runnable);
+        }
+    }
+
+    private void flushCoalescedTokens() {
+        if (coalescer != null) {
+            coalescer.flush();
+        }
+    }
+
     private void execute(Runnable runnable) {
+        flushCoalescedTokens();
         if (switchToWorkerForEmission && Context.isOnEventLoopThread()) {
             executeOnWorkerThread(runnable, true);
         } else {
@@ -353,16 +430,20 @@ public class QuarkusAiServiceStreamingResponseHandler implements StreamingChatRe
                 }
             }, ordered);
         } else {
-            executor.submit(runnable);
+            executor.execute(runnable);
         }
     }
 
     @Override
     public void onCompleteResponse(ChatResponse completeResponse) {
         if (isCancelled()) {
-            shutdown();
             return;
         }
+        if (metrics != null) {
+            metrics.onComplete(completeResponse);
+        }
+        // the tokens must be emitted before the rest of the response is handled
+        flushCoalescedTokens();
         fireResponseReceivedEvent(completeResponse);
         AiMessage aiMessage = completeResponse.aiMessage();
 
@@ -373,26 +454,24 @@ public class QuarkusAiServiceStreamingResponseHandler implements StreamingChatRe
             if (intermediateResponseHandler != null) {
                 intermediateResponseHandler.accept(completeResponse);
             }
+            if (canExecuteToolsWithoutBlocking(aiMessage.toolExecutionRequests())) {
+                // All the requested tools are non-blocking (e.g. return Uni or CompletionStage), so they can be
+                // executed from the event loop thread without switching to a worker thread.
+                executeToolsWithoutBlocking(aiMessage, completeResponse);
+                return;
+            }
             // Tools execution may block the caller thread. When the caller thread is the event loop thread, and
             // when tools have been detected to be potentially blocking, we need to switch to a worker thread.
-            executeTools(new Runnable() {
+            executeTools(aiMessage.toolExecutionRequests(), new Runnable() {
                 @Override
                 public void run() {
                     if (isCancelled()) {
-                        shutdown();
                         return;
                     }
                     addToMemory(aiMessage);
                     List<ToolExecutionRequest> toolExecutionRequests = aiMessage.toolExecutionRequests();
                     List<ToolExecutionResult> rawToolResults = new ArrayList<>();
-                    int maxToolCallsPerResponse;
-                    if (context.maxToolCallsPerResponse != null && context.maxToolCallsPerResponse != 0) {
-                        maxToolCallsPerResponse = context.maxToolCallsPerResponse;
-                    } else {
-                        maxToolCallsPerResponse = ConfigProvider.getConfig()
-                                .getOptionalValue("quarkus.langchain4j.ai-service.max-tool-calls-per-response", Integer.class)
-                                .orElse(0);
-                    }
+                    int maxToolCallsPerResponse = maxToolCallsPerResponse();
                     int toolCallsCount = 0;
                     for (ToolExecutionRequest toolExecutionRequest : toolExecutionRequests) {
                         if (maxToolCallsPerResponse > 0 && toolCallsCount >= maxToolCallsPerResponse) {
@@ -421,69 +500,7 @@ public class QuarkusAiServiceStreamingResponseHandler implements StreamingChatRe
                         QuarkusAiServiceStreamingResponseHandler.this.addToMemory(toolExecutionResultMessage);
                     }
 
-                    if (isCancelled()) {
-                        shutdown();
-                        return;
-                    }
-
-                    List<ToolSpecification> nextToolSpecifications = toolSpecifications;
-                    ToolServiceContext nextToolSearchContext = toolSearchContext;
-                    if (context.toolSearchService != null && toolSearchContext != null) {
-                        nextToolSearchContext = ToolSearchService.addFoundTools(toolSearchContext, rawToolResults);
-                        nextToolSpecifications = new ArrayList<>(nextToolSearchContext.effectiveTools());
-                    }
-
-                    DefaultChatRequestParameters.Builder<?> parametersBuilder = ChatRequestParameters.builder();
-                    parametersBuilder.toolSpecifications(nextToolSpecifications);
-
-                    StreamingChatModel effectiveStreamingChatModel = context.effectiveStreamingChatModel(methodCreateInfo,
-                            methodArgs);
-                    if (nonNull(effectiveStreamingChatModel.defaultRequestParameters())) {
-                        var toolChoice = effectiveStreamingChatModel.defaultRequestParameters().toolChoice();
-                        if (nonNull(toolChoice) && toolChoice.equals(ToolChoice.REQUIRED)) {
-                            // This code is needed to avoid a infinite-loop when using the AiService
-                            // in combination with the tool-choice option set to REQUIRED.
-                            // If the tool-choice option is not set to AUTO after calling the tool,
-                            // the model may continuously reselect the same tool in subsequent responses,
-                            // even though the tool has already been invoked.
-                            parametersBuilder.toolChoice(ToolChoice.AUTO);
-                        }
-                    }
-
-                    ChatRequestParameters defaultParams = parametersBuilder.build();
-                    var userParams = AiServiceMethodImplementationSupport
-                            .findChatRequestParameters(methodCreateInfo, methodArgs);
-                    ChatRequestParameters effectiveParams = effectiveChatRequestParameters(defaultParams, userParams);
-
-                    ChatRequest chatRequest = ChatRequest.builder()
-                            .messages(messagesToSend(memoryId))
-                            .parameters(effectiveParams)
-                            .build();
-                    QuarkusAiServiceStreamingResponseHandler handler = new QuarkusAiServiceStreamingResponseHandler(
-                            chatRequest,
-                            context,
-                            invocationContext,
-                            memoryId,
-                            partialResponseHandler,
-                            partialThinkingHandler,
-                            partialToolCallHandler,
-                            beforeToolExecutionHandler,
-                            intermediateResponseHandler,
-                            toolExecuteHandler,
-                            completeResponseHandler,
-                            completionHandler,
-                            errorHandler,
-                            temporaryMemory,
-                            TokenUsage.sum(tokenUsage, completeResponse.metadata().tokenUsage()),
-                            nextToolSpecifications,
-                            toolExecutors,
-                            nextToolSearchContext,
-                            mustSwitchToWorkerThread, switchToWorkerForEmission, executionContext, executor, methodCreateInfo,
-                            methodArgs,
-                            cancelled);
-
-                    fireRequestIssuedEvent(chatRequest);
-                    effectiveStreamingChatModel.chat(chatRequest, handler);
+                    continueAfterToolExecution(completeResponse, rawToolResults);
                 }
             });
         } else {
@@ -491,22 +508,18 @@ public class QuarkusAiServiceStreamingResponseHandler implements StreamingChatRe
                 Runnable runnable = new Runnable() {
                     @Override
                     public void run() {
-                        try {
-                            ChatResponse finalChatResponse = ChatResponse.builder()
-                                    .aiMessage(aiMessage)
-                                    .metadata(ChatResponseMetadata.builder()
-                                            .id(completeResponse.metadata().id())
-                                            .modelName(completeResponse.metadata().modelName())
-                                            .tokenUsage(TokenUsage.sum(tokenUsage, completeResponse.metadata().tokenUsage()))
-                                            .finishReason(completeResponse.metadata().finishReason())
-                                            .build())
-                                    .build();
-                            fireInvocationComplete(finalChatResponse);
-                            addToMemory(aiMessage);
-                            completeResponseHandler.accept(finalChatResponse);
-                        } finally {
-                            shutdown(); // Terminal event, we can shutdown the executor
-                        }
+                        ChatResponse finalChatResponse = ChatResponse.builder()
+                                .aiMessage(aiMessage)
+                                .metadata(ChatResponseMetadata.builder()
+                                        .id(completeResponse.metadata().id())
+                                        .modelName(completeResponse.metadata().modelName())
+                                        .tokenUsage(TokenUsage.sum(tokenUsage, completeResponse.metadata().tokenUsage()))
+                                        .finishReason(completeResponse.metadata().finishReason())
+                                        .build())
+                                .build();
+                        fireInvocationComplete(finalChatResponse);
+                        addToMemory(aiMessage);
+                        completeResponseHandler.accept(finalChatResponse);
                     }
                 };
                 execute(runnable);
@@ -527,10 +540,208 @@ public class QuarkusAiServiceStreamingResponseHandler implements StreamingChatRe
         }
     }
 
-    private void shutdown() {
-        if (executor != null) {
-            executor.shutdown();
+    private int maxToolCallsPerResponse() {
+        if (context.maxToolCallsPerResponse != null && context.maxToolCallsPerResponse != 0) {
+            return context.maxToolCallsPerResponse;
+        }
+        return ConfigProvider.getConfig()
+                .getOptionalValue("quarkus.langchain4j.ai-service.max-tool-calls-per-response", Integer.class)
+                .orElse(0);
+    }
+
+    /**
+     * Whether the requested tools must be executed on a worker thread when the response is received on the event loop.
+     * This is the case when the build time analysis detected that the tools of the method may block. The tools returning
+     * {@code Uni} or {@code CompletionStage} are not considered as blocking by this analysis, as they are normally
+     * executed by {@link #executeToolsWithoutBlocking(AiMessage, ChatResponse)}, so they also require a worker thread
+     * when they cannot be executed without blocking (e.g. because a tool wrapper does not support it).
+     */
+    private boolean requiresWorkerThread(List<ToolExecutionRequest> toolExecutionRequests) {
+        if (mustSwitchToWorkerThread) {
+            return true;
+        }
+        if (toolExecutors == null) {
+            return false;
+        }
+        for (ToolExecutionRequest toolExecutionRequest : toolExecutionRequests) {
+            if (toolExecutors.get(toolExecutionRequest.name()) instanceof QuarkusToolExecutor quarkusToolExecutor
+                    && !quarkusToolExecutor.supportsNonBlockingExecution()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tools can be executed without leaving the event loop when every requested tool is a {@link QuarkusToolExecutor}
+     * supporting non-blocking execution. Otherwise, the regular (potentially blocking) execution is used.
+     */
+    private boolean canExecuteToolsWithoutBlocking(List<ToolExecutionRequest> toolExecutionRequests) {
+        if (!Context.isOnEventLoopThread() || toolExecutors == null) {
+            return false;
+        }
+        for (ToolExecutionRequest toolExecutionRequest : toolExecutionRequests) {
+            if (!(toolExecutors.get(toolExecutionRequest.name()) instanceof QuarkusToolExecutor quarkusToolExecutor)
+                    || !quarkusToolExecutor.supportsNonBlockingExecution()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void executeToolsWithoutBlocking(AiMessage aiMessage, ChatResponse completeResponse) {
+        if (isCancelled()) {
+            return;
+        }
+        List<ToolExecutionRequest> toolExecutionRequests = aiMessage.toolExecutionRequests();
+        int maxToolCallsPerResponse = maxToolCallsPerResponse();
+        if (maxToolCallsPerResponse > 0 && toolExecutionRequests.size() > maxToolCallsPerResponse) {
+            onError(new ToolCallsLimitExceededException(maxToolCallsPerResponse, toolExecutionRequests.size()));
+            return;
+        }
+        addToMemory(aiMessage);
+        // tools are executed one after the other, in the order requested by the model, like the blocking execution
+        Multi.createFrom().iterable(toolExecutionRequests)
+                .onItem().transformToUniAndConcatenate(this::executeToolWithoutBlocking)
+                .collect().asList()
+                .subscribe().with(
+                        rawToolResults -> {
+                            try {
+                                continueAfterToolExecution(completeResponse, rawToolResults);
+                            } catch (Exception e) {
+                                onError(e);
+                            }
+                        },
+                        this::onError);
+    }
+
+    private Uni<ToolExecutionResult> executeToolWithoutBlocking(ToolExecutionRequest toolExecutionRequest) {
+        if (isCancelled()) {
+            // Fill cancelled tools with error results to keep memory consistent:
+            // every tool request must have a matching tool result
+            addToMemory(ToolExecutionResultMessage.from(toolExecutionRequest, "Tool execution was cancelled"));
+            return Uni.createFrom().nullItem();
+        }
+        if (beforeToolExecutionHandler != null) {
+            beforeToolExecutionHandler.accept(BeforeToolExecution.builder().request(toolExecutionRequest).build());
+        }
+        QuarkusToolExecutor toolExecutor = (QuarkusToolExecutor) toolExecutors.get(toolExecutionRequest.name());
+        return toolExecutor.executeAsync(toolExecutionRequest, invocationContext)
+                .onItemOrFailure().transform((result, failure) -> {
+                    ToolExecutionResult toolExecutionResult;
+                    if (failure == null) {
+                        toolExecutionResult = result;
+                        if (toolExecuteHandler != null) {
+                            toolExecuteHandler.accept(ToolExecution.builder()
+                                    .request(toolExecutionRequest)
+                                    .result(toolExecutionResult)
+                                    .invocationContext(invocationContext)
+                                    .build());
+                        }
+                    } else {
+                        // The failure goes through the tool service, like the failures of the blocking execution, so
+                        // that the configured error handlers either turn it into a result or rethrow it
+                        toolExecutionResult = context.toolService.executeTool(invocationContext,
+                                Map.of(toolExecutionRequest.name(), new FailedToolExecutor(failure)),
+                                toolExecutionRequest, null, toolExecuteHandler);
+                    }
+                    fireToolExecutedEvent(toolExecutionRequest, toolExecutionResult.resultText());
+                    addToMemory(ToolExecutionResultMessageUtil.from(toolExecutionRequest, toolExecutionResult));
+                    return toolExecutionResult;
+                });
+    }
+
+    /**
+     * Replays the failure of a tool executed without blocking.
+     */
+    private static final class FailedToolExecutor implements ToolExecutor {
+
+        private final Throwable failure;
+
+        private FailedToolExecutor(Throwable failure) {
+            this.failure = failure;
+        }
+
+        @Override
+        public ToolExecutionResult executeWithContext(ToolExecutionRequest request, InvocationContext invocationContext) {
+            if (failure instanceof RuntimeException re) {
+                throw re;
+            }
+            if (failure instanceof Error e) {
+                throw e;
+            }
+            throw new RuntimeException(failure);
+        }
+
+        @Override
+        public String execute(ToolExecutionRequest request, Object memoryId) {
+            return executeWithContext(request, null).resultText();
+        }
+    }
+
+    private void continueAfterToolExecution(ChatResponse completeResponse, List<ToolExecutionResult> rawToolResults) {
+        if (isCancelled()) {
+            return;
+        }
+
+        List<ToolSpecification> nextToolSpecifications = toolSpecifications;
+        ToolServiceContext nextToolSearchContext = toolSearchContext;
+        if (context.toolSearchService != null && toolSearchContext != null) {
+            nextToolSearchContext = ToolSearchService.addFoundTools(toolSearchContext, rawToolResults);
+            nextToolSpecifications = new ArrayList<>(nextToolSearchContext.effectiveTools());
+        }
+
+        DefaultChatRequestParameters.Builder<?> parametersBuilder = ChatRequestParameters.builder();
+        parametersBuilder.toolSpecifications(nextToolSpecifications);
+
+        StreamingChatModel effectiveStreamingChatModel = context.effectiveStreamingChatModel(methodCreateInfo,
+                methodArgs);
+        if (nonNull(effectiveStreamingChatModel.defaultRequestParameters())) {
+            var toolChoice = effectiveStreamingChatModel.defaultRequestParameters().toolChoice();
+            if (nonNull(toolChoice) && toolChoice.equals(ToolChoice.REQUIRED)) {
+                // This code is needed to avoid a infinite-loop when using the AiService
+                // in combination with the tool-choice option set to REQUIRED.
+                // If the tool-choice option is not set to AUTO after calling the tool,
+                // the model may continuously reselect the same tool in subsequent responses,
+                // even though the tool has already been invoked.
+                parametersBuilder.toolChoice(ToolChoice.AUTO);
+            }
         }
+
+        ChatRequestParameters defaultParams = parametersBuilder.build();
+        var userParams = AiServiceMethodImplementationSupport
+                .findChatRequestParameters(methodCreateInfo, methodArgs);
+        ChatRequestParameters effectiveParams = effectiveChatRequestParameters(defaultParams, userParams);
+
+        ChatRequest chatRequest = ChatRequest.builder()
+                .messages(messagesToSend(memoryId))
+                .parameters(effectiveParams)
+                .build();
+        QuarkusAiServiceStreamingResponseHandler handler = new QuarkusAiServiceStreamingResponseHandler(
+                chatRequest,
+                context,
+                invocationContext,
+                memoryId,
+                partialResponseHandler,
+                partialThinkingHandler,
+                partialToolCallHandler,
+                beforeToolExecutionHandler,
+                intermediateResponseHandler,
+                toolExecuteHandler,
+                completeResponseHandler,
+                completionHandler,
+                errorHandler,
+                temporaryMemory,
+                TokenUsage.sum(tokenUsage, completeResponse.metadata().tokenUsage()),
+                nextToolSpecifications,
+                toolExecutors,
+                nextToolSearchContext,
+                mustSwitchToWorkerThread, switchToWorkerForEmission, executionContext, executor, methodCreateInfo,
+                methodArgs,
+                cancelled);
+
+        fireRequestIssuedEvent(chatRequest);
+        effectiveStreamingChatModel.chat(chatRequest, handler);
     }
 
     private boolean isCancelled() {
@@ -553,6 +764,9 @@ public class QuarkusAiServiceStreamingResponseHandler implements StreamingChatRe
 
     @Override
     public void onError(Throwable error) {
+        if (metrics != null) {
+            metrics.onError();
+        }
         fireErrorReceived(error);
 
         if (errorHandler != null) {
@@ -564,8 +778,6 @@ public class QuarkusAiServiceStreamingResponseHandler implements StreamingChatRe
                     } catch (Exception e) {
                         log.error("While handling the following error...", error);
                         log.error("...the following error happened", e);
-                    } finally {
-                        shutdown(); // Terminal event, we can shutdown the executor
                     }
                 }
             });
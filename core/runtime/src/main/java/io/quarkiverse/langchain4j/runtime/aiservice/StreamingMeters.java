@@ -0,0 +1,86 @@
+package io.quarkiverse.langchain4j.runtime.aiservice;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The Micrometer meters recording the {@link StreamingMetrics}, tagged like the {@code gen_ai.client.*} metrics of the
+ * chat model listener. Only used when Micrometer is available.
+ */
+final class StreamingMeters {
+
+    private static final boolean MICROMETER_AVAILABLE = isMicrometerAvailable();
+
+    private StreamingMeters() {
+    }
+
+    static boolean isEnabled() {
+        return MICROMETER_AVAILABLE && Holder.hasRegistries();
+    }
+
+    static void recordTimeToFirstChunk(StreamingMetrics metrics, long nanos) {
+        Holder.TIME_TO_FIRST_CHUNK.withTags(tags(metrics)).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    static void recordInterChunkGaps(StreamingMetrics metrics, long[] gapNanos, int count) {
+        Timer timer = Holder.INTER_CHUNK_GAP.withTags(tags(metrics));
+        for (int i = 0; i < count; i++) {
+            timer.record(gapNanos[i], TimeUnit.NANOSECONDS);
+        }
+    }
+
+    static void recordOutputTokensPerSecond(StreamingMetrics metrics, double tokensPerSecond) {
+        Holder.OUTPUT_TOKENS_PER_SECOND.withTags(tags(metrics)).record(tokensPerSecond);
+    }
+
+    private static Tags tags(StreamingMetrics metrics) {
+        return Tags.of("gen_ai.request.model", metrics.requestModel())
+                .and("ai_service.class_name", metrics.aiServiceClassName())
+                .and("ai_service.method_name", metrics.aiServiceMethodName());
+    }
+
+    private static boolean isMicrometerAvailable() {
+        try {
+            Class.forName("io.micrometer.core.instrument.Metrics", false, StreamingMeters.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Only initialized once Micrometer is known to be available.
+     */
+    private static final class Holder {
+
+        static final Meter.MeterProvider<Timer> TIME_TO_FIRST_CHUNK = Timer
+                .builder("gen_ai.client.streaming.time_to_first_chunk")
+                .description("Time between sending a streaming chat request and receiving its first chunk")
+                .tag("gen_ai.operation.name", "chat")
+                .publishPercentileHistogram()
+                .withRegistry(Metrics.globalRegistry);
+
+        static final Meter.MeterProvider<Timer> INTER_CHUNK_GAP = Timer
+                .builder("gen_ai.client.streaming.inter_chunk_gap")
+                .description("Time between two consecutive chunks of a streamed chat response")
+                .tag("gen_ai.operation.name", "chat")
+                .publishPercentileHistogram()
+                .withRegistry(Metrics.globalRegistry);
+
+        static final Meter.MeterProvider<DistributionSummary> OUTPUT_TOKENS_PER_SECOND = DistributionSummary
+                .builder("gen_ai.client.streaming.output_tokens_per_second")
+                .description("Output tokens generated per second, from the first chunk to the end of the streamed response")
+                .tag("gen_ai.operation.name", "chat")
+                .publishPercentileHistogram()
+                .withRegistry(Metrics.globalRegistry);
+
+        static boolean hasRegistries() {
+            return !Metrics.globalRegistry.getRegistries().isEmpty();
+        }
+    }
+}
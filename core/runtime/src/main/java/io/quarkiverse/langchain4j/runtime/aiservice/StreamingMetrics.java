@@ -0,0 +1,101 @@
+package io.quarkiverse.langchain4j.runtime.aiservice;
+
+import java.util.Arrays;
+
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.output.TokenUsage;
+
+/**
+ * Measures the latencies of a streamed response: the time to the first chunk, the gaps between the chunks and the
+ * throughput of the output tokens.
+ * <p>
+ * Receiving a chunk only reads the clock and stores the gap, the meters are updated once the response completes.
+ * This class is not thread-safe, which is fine as the chunks of a response are received sequentially.
+ */
+final class StreamingMetrics {
+
+    private final String requestModel;
+    private final String aiServiceClassName;
+    private final String aiServiceMethodName;
+    private final long startNanos;
+
+    private long firstChunkNanos = -1;
+    private long lastChunkNanos;
+    private int chunks;
+    private long[] gaps = new long[64];
+    private int gapCount;
+
+    private StreamingMetrics(String requestModel, String aiServiceClassName, String aiServiceMethodName) {
+        this.requestModel = requestModel;
+        this.aiServiceClassName = aiServiceClassName;
+        this.aiServiceMethodName = aiServiceMethodName;
+        this.startNanos = System.nanoTime();
+    }
+
+    static boolean isEnabled() {
+        return StreamingMeters.isEnabled();
+    }
+
+    /**
+     * Starts measuring a streamed response, right before the request is sent to the model.
+     * Only called when {@link #isEnabled()}.
+     */
+    static StreamingMetrics start(String requestModel, String aiServiceClassName, String aiServiceMethodName) {
+        return new StreamingMetrics(requestModel != null ? requestModel : "none",
+                aiServiceClassName != null ? aiServiceClassName : "none",
+                aiServiceMethodName != null ? aiServiceMethodName : "none");
+    }
+
+    void onChunk() {
+        long now = System.nanoTime();
+        chunks++;
+        if (firstChunkNanos < 0) {
+            firstChunkNanos = now;
+            StreamingMeters.recordTimeToFirstChunk(this, now - startNanos);
+        } else {
+            if (gapCount == gaps.length) {
+                gaps = Arrays.copyOf(gaps, gapCount * 2);
+            }
+            gaps[gapCount++] = now - lastChunkNanos;
+        }
+        lastChunkNanos = now;
+    }
+
+    void onComplete(ChatResponse response) {
+        recordGaps();
+        if (firstChunkNanos < 0) {
+            return;
+        }
+        TokenUsage tokenUsage = response.tokenUsage();
+        int outputTokens = tokenUsage != null && tokenUsage.outputTokenCount() != null
+                ? tokenUsage.outputTokenCount()
+                : chunks;
+        long generationNanos = System.nanoTime() - firstChunkNanos;
+        if (outputTokens > 0 && generationNanos > 0) {
+            StreamingMeters.recordOutputTokensPerSecond(this, outputTokens * 1_000_000_000d / generationNanos);
+        }
+    }
+
+    void onError() {
+        recordGaps();
+    }
+
+    private void recordGaps() {
+        if (gapCount > 0) {
+            StreamingMeters.recordInterChunkGaps(this, gaps, gapCount);
+            gapCount = 0;
+        }
+    }
+
+    String requestModel() {
+        return requestModel;
+    }
+
+    String aiServiceClassName() {
+        return aiServiceClassName;
+    }
+
+    String aiServiceMethodName() {
+        return aiServiceMethodName;
+    }
+}
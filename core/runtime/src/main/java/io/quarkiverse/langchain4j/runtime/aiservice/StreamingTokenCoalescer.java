@@ -0,0 +1,121 @@
+package io.quarkiverse.langchain4j.runtime.aiservice;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.jboss.logging.Logger;
+
+import io.vertx.core.Context;
+
+/**
+ * Gathers the emissions of streamed tokens that would each be dispatched to a worker thread, so that a single dispatch
+ * emits all the tokens received in the meantime.
+ * <p>
+ * The emissions still run one by one and in order, so subscribers see every chunk, but fast providers no longer cause
+ * one worker thread handoff per token.
+ * A batch is dispatched when the window elapses after its first token, or as soon as it reaches the maximum size.
+ * Once dispatched, a batch keeps gathering the tokens that arrive until the worker thread starts emitting it.
+ */
+final class StreamingTokenCoalescer {
+
+    private static final Logger log = Logger.getLogger(StreamingTokenCoalescer.class);
+
+    private final long windowMillis;
+    private final int maxSize;
+    private final Context context;
+    private final Consumer<Runnable> dispatcher;
+
+    private List<Runnable> pending = new ArrayList<>();
+    private boolean dispatched;
+    private long timerId = -1;
+
+    /**
+     * @param context the context used to arm the window timer, or {@code null} if the batches are dispatched right away
+     * @param dispatcher dispatches the emission of a batch to a worker thread, preserving the order of the dispatches
+     */
+    StreamingTokenCoalescer(Duration window, int maxSize, Context context, Consumer<Runnable> dispatcher) {
+        this.windowMillis = window == null || context == null ? 0 : window.toMillis();
+        this.maxSize = Math.max(1, maxSize);
+        this.context = context;
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * Adds the emission of a token to the current batch.
+     */
+    void submit(Runnable emission) {
+        boolean dispatchNow;
+        synchronized (this) {
+            pending.add(emission);
+            if (dispatched) {
+                return;
+            }
+            if (timerId < 0 && windowMillis > 0 && pending.size() < maxSize) {
+                timerId = context.owner().setTimer(windowMillis, id -> onWindowElapsed(id));
+                return;
+            }
+            dispatchNow = pending.size() >= maxSize || timerId < 0;
+            if (dispatchNow) {
+                cancelTimer();
+                dispatched = true;
+            }
+        }
+        if (dispatchNow) {
+            dispatcher.accept(this::emit);
+        }
+    }
+
+    /**
+     * Dispatches the current batch right away, so that it is emitted before anything dispatched afterward.
+     */
+    void flush() {
+        synchronized (this) {
+            if (dispatched || pending.isEmpty()) {
+                return;
+            }
+            cancelTimer();
+            dispatched = true;
+        }
+        dispatcher.accept(this::emit);
+    }
+
+    private void onWindowElapsed(long id) {
+        synchronized (this) {
+            if (timerId != id) {
+                // the batch has been flushed in the meantime
+                return;
+            }
+            timerId = -1;
+            if (dispatched || pending.isEmpty()) {
+                return;
+            }
+            dispatched = true;
+        }
+        dispatcher.accept(this::emit);
+    }
+
+    private void cancelTimer() {
+        if (timerId >= 0) {
+            context.owner().cancelTimer(timerId);
+            timerId = -1;
+        }
+    }
+
+    private void emit() {
+        List<Runnable> batch;
+        synchronized (this) {
+            batch = pending;
+            pending = new ArrayList<>();
+            dispatched = false;
+        }
+        for (Runnable emission : batch) {
+            try {
+                emission.run();
+            } catch (Throwable t) {
+                log.error("Unexpected failure while emitting a streamed token", t);
+            }
+        }
+    }
+}
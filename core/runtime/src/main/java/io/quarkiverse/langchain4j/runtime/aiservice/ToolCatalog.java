@@ -0,0 +1,66 @@
+package io.quarkiverse.langchain4j.runtime.aiservice;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.service.tool.ToolExecutor;
+
+/**
+ * An immutable snapshot of the tools statically available to an AI service method, i.e. the {@code @Tool} methods of
+ * the method or of the AI service, which is shared by all the invocations of the method.
+ * <p>
+ * The snapshot remembers the collections it was taken from, so that it can be retaken if they are replaced or if
+ * their tools change (e.g. while the tools of the method are being populated by its first invocation).
+ */
+record ToolCatalog(List<ToolSpecification> toolSpecifications, Map<String, ToolExecutor> toolExecutors,
+        List<ToolSpecification> sourceSpecifications, Map<String, ToolExecutor> sourceExecutors) {
+
+    static ToolCatalog of(List<ToolSpecification> specifications, Map<String, ToolExecutor> executors) {
+        return new ToolCatalog(
+                // unlike List.copyOf and Map.copyOf, lookups of null (e.g. a tool request without a name) do not fail
+                specifications != null ? Collections.unmodifiableList(new ArrayList<>(specifications)) : Collections.emptyList(),
+                executors != null ? Collections.unmodifiableMap(new HashMap<>(executors)) : Collections.emptyMap(),
+                specifications, executors);
+    }
+
+    /**
+     * Whether the snapshot was taken from the given collections and they still hold the same tools. The tools are
+     * compared by identity, which is enough to detect any addition, removal or replacement without comparing the
+     * specifications themselves.
+     */
+    boolean isTakenFrom(List<ToolSpecification> specifications, Map<String, ToolExecutor> executors) {
+        return specifications == sourceSpecifications && executors == sourceExecutors
+                && (specifications == null || sameSpecifications(specifications))
+                && (executors == null || sameExecutors(executors));
+    }
+
+    private boolean sameSpecifications(List<ToolSpecification> specifications) {
+        if (specifications.size() != toolSpecifications.size()) {
+            return false;
+        }
+        int i = 0;
+        for (ToolSpecification specification : specifications) {
+            // the list may grow concurrently between the size check and the iteration
+            if (i == toolSpecifications.size() || specification != toolSpecifications.get(i++)) {
+                return false;
+            }
+        }
+        return i == toolSpecifications.size();
+    }
+
+    private boolean sameExecutors(Map<String, ToolExecutor> executors) {
+        if (executors.size() != toolExecutors.size()) {
+            return false;
+        }
+        for (Map.Entry<String, ToolExecutor> entry : toolExecutors.entrySet()) {
+            if (executors.get(entry.getKey()) != entry.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,40 @@
+package io.quarkiverse.langchain4j.runtime.config;
+
+import java.time.Duration;
+import java.util.Map;
+
+import io.quarkus.runtime.annotations.ConfigDocMapKey;
+import io.quarkus.runtime.annotations.ConfigDocSection;
+import io.smallrye.config.WithDefault;
+
+/**
+ * The limits applied to the chat requests of the AI services methods returning their response synchronously.
+ * Streaming methods, returning a {@code Multi} or a {@code TokenStream}, are not gated by these limits.
+ */
+public interface AdmissionControlConfig {
+
+    /**
+     * How long a chat request waits for the configured limits to admit it before failing with a
+     * {@code ChatAdmissionRejectedException}.
+     * With the default value of {@code 0}, a request exceeding a limit fails right away.
+     * Requests issued from an event loop thread never wait.
+     */
+    @WithDefault("0")
+    Duration maxWait();
+
+    /**
+     * The limits applied to all the chat requests sent to a model, whatever the AI service sending them.
+     * The default model is named {@code default}.
+     */
+    @ConfigDocSection
+    @ConfigDocMapKey("model-name")
+    Map<String, AdmissionLimitsConfig> model();
+
+    /**
+     * The limits applied to the chat requests sent by an AI service, keyed by the fully qualified name of its
+     * interface.
+     */
+    @ConfigDocSection
+    @ConfigDocMapKey("ai-service-class-name")
+    Map<String, AdmissionLimitsConfig> aiService();
+}
@@ -0,0 +1,18 @@
+package io.quarkiverse.langchain4j.runtime.config;
+
+import java.util.OptionalInt;
+
+public interface AdmissionLimitsConfig {
+
+    /**
+     * The number of tokens, as reported by the model, that can be used per minute.
+     * A request is admitted as long as the tokens used by the previous requests have not exhausted the budget, which
+     * is replenished continuously.
+     */
+    OptionalInt tokensPerMinute();
+
+    /**
+     * The maximum number of chat requests in flight at the same time.
+     */
+    OptionalInt maxConcurrentRequests();
+}
@@ -15,6 +15,14 @@ public interface AiServiceConfig {
     @WithDefault("" + DEFAULT_MAX_TOOL_CALLS_PER_RESPONSE)
     int maxToolCallsPerResponse();
 
+    /**
+     * Whether the tool calls contained in a single LLM response are executed concurrently.
+     * The results are still passed back to the LLM in the order of the requests.
+     * Can be enabled for a specific AI service using {@code @RegisterAiService(executeToolsConcurrently = true)}.
+     */
+    @WithDefault("false")
+    boolean executeToolsConcurrently();
+
     /**
      * Maximum number of tool executions while handling a single chat request.
      * If this number is exceeded, the chat request will fail.
@@ -31,4 +39,15 @@ public interface AiServiceConfig {
      */
     @WithDefault("10")
     int maxToolCallingRoundTrips();
+
+    /**
+     * Configuration of the coalescing of streamed tokens
+     */
+    StreamingCoalescingConfig streamingCoalescing();
+
+    /**
+     * Configuration of the admission control of the chat requests sent by the AI services.
+     * Streaming methods are not gated by the admission control.
+     */
+    AdmissionControlConfig admission();
 }
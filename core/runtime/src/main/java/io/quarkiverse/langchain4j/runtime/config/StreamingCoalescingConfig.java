@@ -0,0 +1,29 @@
+package io.quarkiverse.langchain4j.runtime.config;
+
+import java.time.Duration;
+
+import io.smallrye.config.WithDefault;
+
+public interface StreamingCoalescingConfig {
+
+    /**
+     * If enabled, the streamed tokens that have to be emitted on a worker thread are gathered into batches, so that a
+     * single worker thread dispatch emits several tokens. Subscribers still receive each token individually.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * How long to wait after the first token of a batch before dispatching it.
+     * With the default value of {@code 0}, a batch is dispatched right away and gathers the tokens that arrive until a
+     * worker thread starts emitting it.
+     */
+    @WithDefault("0")
+    Duration window();
+
+    /**
+     * Number of tokens after which a batch is dispatched without waiting for the end of the window.
+     */
+    @WithDefault("64")
+    int maxSize();
+}
@@ -1,17 +1,15 @@
 package io.quarkiverse.langchain4j.runtime.tool;
 
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
 
 import org.jboss.logging.Logger;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonParser;
 
 import dev.langchain4j.agent.tool.ReturnBehavior;
 import dev.langchain4j.agent.tool.ToolExecutionRequest;
@@ -32,6 +30,12 @@ public class QuarkusToolExecutor implements ToolExecutor {
 
     private final Context context;
 
+    // the generated invoker is stateless, so it (and its metadata) only needs to be resolved once per executor
+    private volatile ToolInvoker invoker;
+    private volatile ToolInvoker.MethodMetadata methodMetadata;
+    private volatile Class<? extends Mappable> argumentMapperClass;
+    private volatile ToolArgumentsBinder argumentsBinder;
+
     public record Context(Object tool, String toolInvokerName, String methodName, String argumentMapperClassName,
             ToolMethodCreateInfo.ExecutionModel executionModel, ReturnBehavior returnBehavior,
             boolean propagateToolExecutionExceptions, ToolMethodCreateInfo methodCreateInfo) {
@@ -52,6 +56,26 @@ public class QuarkusToolExecutor implements ToolExecutor {
                 BiFunction<ToolExecutionRequest, InvocationContext, ToolExecutionResult> fun, QuarkusToolExecutor executor);
     }
 
+    /**
+     * A {@link Wrapper} that can also wrap the non-blocking execution of the tools. When any wrapper of a tool is not
+     * an {@code AsyncWrapper}, the tool is executed using the imperative path.
+     */
+    public interface AsyncWrapper extends Wrapper {
+
+        /**
+         * Whether this wrapper can wrap the non-blocking execution of the given tool using
+         * {@link #wrapAsync(ToolExecutionRequest, InvocationContext, BiFunction, QuarkusToolExecutor)}.
+         * When any wrapper returns {@code false}, the tool is executed using the imperative path.
+         */
+        default boolean supportsAsync(QuarkusToolExecutor executor) {
+            return true;
+        }
+
+        Uni<ToolExecutionResult> wrapAsync(ToolExecutionRequest toolExecutionRequest, InvocationContext invocationContext,
+                BiFunction<ToolExecutionRequest, InvocationContext, Uni<ToolExecutionResult>> fun,
+                QuarkusToolExecutor executor);
+    }
+
     public QuarkusToolExecutor(Context context) {
         this.context = context;
     }
@@ -76,8 +100,8 @@ public class QuarkusToolExecutor implements ToolExecutor {
         // TODO Note that we need to return a String in an imperative manner.
         // TODO We may have to check who's going to call this method from a non-blocking thread to handle the dispatch there.
 
-        ToolInvoker invokerInstance = createInvokerInstance();
-        Object[] params = prepareArguments(request, invokerInstance.methodMetadata(), invocationContext);
+        ToolInvoker invokerInstance = invoker();
+        Object[] params = prepareArguments(request, methodMetadata(), invocationContext);
         // When required to block, we are invoked on a worker thread (stream with blocking tools).
         switch (context.executionModel) {
             case BLOCKING:
@@ -112,6 +136,48 @@ public class QuarkusToolExecutor implements ToolExecutor {
         }
     }
 
+    /**
+     * Whether {@link #executeAsync(ToolExecutionRequest, InvocationContext)} can run the tool without blocking the
+     * caller thread, which is the case for tools detected as non-blocking (including the ones returning {@code Uni} or
+     * {@code CompletionStage}).
+     */
+    public boolean supportsNonBlockingExecution() {
+        return context.executionModel == ToolMethodCreateInfo.ExecutionModel.NON_BLOCKING;
+    }
+
+    /**
+     * Executes the tool without blocking the caller thread when {@link #supportsNonBlockingExecution()} is {@code true}:
+     * the {@code Uni} or {@code CompletionStage} returned by the tool is chained instead of being awaited.
+     * Other tools are executed using {@link #executeWithContext(ToolExecutionRequest, InvocationContext)} when the
+     * returned {@code Uni} is subscribed to.
+     */
+    public Uni<ToolExecutionResult> executeAsync(ToolExecutionRequest request, InvocationContext invocationContext) {
+        if (!supportsNonBlockingExecution()) {
+            return Uni.createFrom().item(() -> executeWithContext(request, invocationContext));
+        }
+        log.debugv("About to execute {0} without blocking", request);
+        Object invocationResult;
+        try {
+            ToolInvoker invokerInstance = invoker();
+            Object[] params = prepareArguments(request, methodMetadata(), invocationContext);
+            if (log.isDebugEnabled()) {
+                log.debugv("Attempting to invoke tool {0} with parameters {1}", context.tool, Arrays.toString(params));
+            }
+            invocationResult = invokerInstance.invoke(context.tool, params);
+        } catch (Throwable e) {
+            return Uni.createFrom().failure(e);
+        }
+        Uni<?> uni;
+        if (invocationResult instanceof Uni<?> u) {
+            uni = u;
+        } else if (invocationResult instanceof CompletionStage<?> cs) {
+            uni = Uni.createFrom().completionStage(cs);
+        } else {
+            uni = Uni.createFrom().item(invocationResult);
+        }
+        return uni.map(this::toToolExecutionResult);
+    }
+
     private ToolExecutionResult invoke(Object[] params, ToolInvoker invokerInstance) {
         try {
             if (log.isDebugEnabled()) {
@@ -125,14 +191,7 @@ public class QuarkusToolExecutor implements ToolExecutor {
                 }
                 invocationResult = ((Uni<?>) invocationResult).await().indefinitely();
             }
-            if (invocationResult instanceof ToolExecutionResult ter) {
-                log.debugv("Tool execution result passed through. result: {0} | resultText: {1}", ter.result(),
-                        ter.resultText());
-                return ter;
-            }
-            String result = handleResult(invokerInstance, invocationResult);
-            log.debugv("Tool execution result: {0}", result);
-            return ToolExecutionResult.builder().result(invocationResult).resultText(result).build();
+            return toToolExecutionResult(invocationResult);
         } catch (Exception e) {
             sneakyThrow(e);
             // keep the compiler happy
@@ -140,18 +199,46 @@ public class QuarkusToolExecutor implements ToolExecutor {
         }
     }
 
+    private ToolExecutionResult toToolExecutionResult(Object invocationResult) {
+        if (invocationResult instanceof ToolExecutionResult ter) {
+            log.debugv("Tool execution result passed through. result: {0} | resultText: {1}", ter.result(),
+                    ter.resultText());
+            return ter;
+        }
+        String result = handleResult(methodMetadata(), invocationResult);
+        log.debugv("Tool execution result: {0}", result);
+        return ToolExecutionResult.builder().result(invocationResult).resultText(result).build();
+    }
+
     private static <E extends Throwable> void sneakyThrow(Throwable e) throws E {
         throw (E) e;
     }
 
-    private static String handleResult(ToolInvoker invokerInstance, Object invocationResult) {
-        if (invokerInstance.methodMetadata().isReturnsVoid()) {
+    private static String handleResult(ToolInvoker.MethodMetadata methodMetadata, Object invocationResult) {
+        if (methodMetadata.isReturnsVoid()) {
             return "Success";
         }
         return Json.toJson(invocationResult);
     }
 
-    // TODO: cache
+    private ToolInvoker invoker() {
+        ToolInvoker result = invoker;
+        if (result == null) {
+            result = createInvokerInstance();
+            invoker = result;
+        }
+        return result;
+    }
+
+    private ToolInvoker.MethodMetadata methodMetadata() {
+        ToolInvoker.MethodMetadata result = methodMetadata;
+        if (result == null) {
+            result = invoker().methodMetadata();
+            methodMetadata = result;
+        }
+        return result;
+    }
+
     private ToolInvoker createInvokerInstance() {
         ToolInvoker invokerInstance;
         try {
@@ -167,58 +254,24 @@ public class QuarkusToolExecutor implements ToolExecutor {
         return invokerInstance;
     }
 
-    private static final TypeReference<Map<String, Object>> MAP_TYPE_REF = new TypeReference<>() {
-    };
-
     private Object[] prepareArguments(ToolExecutionRequest toolExecutionRequest,
             ToolInvoker.MethodMetadata methodMetadata, InvocationContext invocationContext) {
         String argumentsJsonStr = toolExecutionRequest.arguments();
-        Map<String, Object> argumentsFromRequest;
-        Set<String> presentKeys;
-        try {
-            log.debugv("Attempting to convert {0} JSON string into args map", argumentsJsonStr);
-            argumentsFromRequest = convertJsonToArguments(argumentsJsonStr);
-            presentKeys = parseRawJsonKeys(argumentsJsonStr);
-            log.debugv("Converted {0} JSON string into args map {1}", argumentsJsonStr, argumentsFromRequest);
-        } catch (JsonProcessingException e) {
-            log.error(e);
-            invalidMethodParams(argumentsJsonStr);
-            return null; //keep the compiler happy
-        }
-
-        Map<String, String> defaultValues = methodMetadata.getParameterDefaultValues();
-        int expectedSize = methodMetadata.getNameToParamPosition().size();
-        if (argumentsFromRequest.size() != expectedSize && defaultValues.isEmpty()) {
-            invalidMethodParams(argumentsJsonStr);
-        }
-
-        Object[] finalArgs = new Object[expectedSize];
-
-        for (var entry : argumentsFromRequest.entrySet()) {
-            Integer pos = methodMetadata.getNameToParamPosition().get(entry.getKey());
-            if (pos == null) {
+        ToolArgumentsBinder binder = argumentsBinder(methodMetadata);
+        Object[] finalArgs;
+        if (argumentsJsonStr == null || argumentsJsonStr.isEmpty()) {
+            if (binder.expectedSize() != 0 && !binder.hasDefaultValues()) {
                 invalidMethodParams(argumentsJsonStr);
-            } else {
-                finalArgs[pos] = entry.getValue();
             }
-        }
-
-        if (!defaultValues.isEmpty()) {
-            Class<? extends Mappable> mapperClass = loadMapperClass();
-            for (var entry : defaultValues.entrySet()) {
-                String paramName = entry.getKey();
-                if (!presentKeys.contains(paramName)) {
-                    Integer pos = methodMetadata.getNameToParamPosition().get(paramName);
-                    if (pos != null) {
-                        try {
-                            Class<?> fieldType = mapperClass.getField(paramName).getType();
-                            finalArgs[pos] = parseDefaultValue(entry.getValue(), paramName, fieldType);
-                        } catch (NoSuchFieldException e) {
-                            log.warnv("Could not find field {0} in mapper class for default value substitution",
-                                    paramName);
-                        }
-                    }
-                }
+            finalArgs = binder.bindEmpty();
+        } else {
+            log.debugv("Attempting to bind {0} JSON string to the tool parameters", argumentsJsonStr);
+            try (JsonParser parser = QuarkusJsonCodecFactory.ObjectMapperHolder.MAPPER.createParser(argumentsJsonStr)) {
+                finalArgs = binder.bind(parser);
+            } catch (IOException e) {
+                log.error(e);
+                invalidMethodParams(argumentsJsonStr);
+                return null; //keep the compiler happy
             }
         }
 
@@ -233,12 +286,14 @@ public class QuarkusToolExecutor implements ToolExecutor {
         return finalArgs;
     }
 
-    private Set<String> parseRawJsonKeys(String argumentsJsonStr) throws JsonProcessingException {
-        if (argumentsJsonStr == null || argumentsJsonStr.isEmpty()) {
-            return Collections.emptySet();
+    private ToolArgumentsBinder argumentsBinder(ToolInvoker.MethodMetadata methodMetadata) {
+        ToolArgumentsBinder result = argumentsBinder;
+        if (result == null) {
+            result = new ToolArgumentsBinder(QuarkusJsonCodecFactory.ObjectMapperHolder.MAPPER, methodMetadata,
+                    loadMapperClass());
+            argumentsBinder = result;
         }
-        Map<String, Object> raw = QuarkusJsonCodecFactory.ObjectMapperHolder.MAPPER.readValue(argumentsJsonStr, MAP_TYPE_REF);
-        return raw.keySet();
+        return result;
     }
 
     public static Object parseDefaultValue(String defaultValue, String parameterName, Class<?> parameterClass) {
@@ -279,16 +334,17 @@ public class QuarkusToolExecutor implements ToolExecutor {
         return Json.fromJson(defaultValue, parameterClass);
     }
 
-    private Map<String, Object> convertJsonToArguments(String argumentsJsonStr) throws JsonProcessingException {
-        if (argumentsJsonStr == null || argumentsJsonStr.isEmpty()) {
-            return Collections.emptyMap();
+    private Class<? extends Mappable> loadMapperClass() {
+        Class<? extends Mappable> result = argumentMapperClass;
+        if (result == null) {
+            result = doLoadMapperClass();
+            argumentMapperClass = result;
         }
-        Mappable mappable = QuarkusJsonCodecFactory.ObjectMapperHolder.MAPPER.readValue(argumentsJsonStr, loadMapperClass());
-        return mappable.obtainFieldValuesMap();
+        return result;
     }
 
     @SuppressWarnings("unchecked")
-    private Class<? extends Mappable> loadMapperClass() {
+    private Class<? extends Mappable> doLoadMapperClass() {
         try {
             return (Class<? extends Mappable>) Class.forName(context.argumentMapperClassName, true, Thread.currentThread()
                     .getContextClassLoader());
@@ -11,6 +11,7 @@ import dev.langchain4j.invocation.InvocationContext;
 import dev.langchain4j.service.tool.ToolExecutionResult;
 import io.quarkus.arc.All;
 import io.quarkus.arc.Unremovable;
+import io.smallrye.mutiny.Uni;
 
 @Singleton
 @Unremovable
@@ -49,6 +50,38 @@ public class QuarkusToolExecutorFactory {
 
                 return funRef.get().apply(toolExecutionRequest, invocationContext);
             }
+
+            @Override
+            public boolean supportsNonBlockingExecution() {
+                if (!originalTool.supportsNonBlockingExecution()) {
+                    return false;
+                }
+                for (QuarkusToolExecutor.Wrapper wrapper : wrappers) {
+                    if (!(wrapper instanceof QuarkusToolExecutor.AsyncWrapper asyncWrapper)
+                            || !asyncWrapper.supportsAsync(executor)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public Uni<ToolExecutionResult> executeAsync(ToolExecutionRequest toolExecutionRequest,
+                    InvocationContext invocationContext) {
+                if (!supportsNonBlockingExecution()) {
+                    return Uni.createFrom().item(() -> executeWithContext(toolExecutionRequest, invocationContext));
+                }
+
+                BiFunction<ToolExecutionRequest, InvocationContext, Uni<ToolExecutionResult>> fun = originalTool::executeAsync;
+                for (QuarkusToolExecutor.Wrapper wrapper : wrappers) {
+                    var asyncWrapper = (QuarkusToolExecutor.AsyncWrapper) wrapper;
+                    var currentFun = fun;
+                    fun = (toolExecutionRequest1, invocationContext1) -> asyncWrapper.wrapAsync(toolExecutionRequest1,
+                            invocationContext1, currentFun, executor);
+                }
+
+                return fun.apply(toolExecutionRequest, invocationContext);
+            }
         };
     }
 }
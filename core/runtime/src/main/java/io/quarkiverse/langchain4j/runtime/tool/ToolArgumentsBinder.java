@@ -0,0 +1,141 @@
+package io.quarkiverse.langchain4j.runtime.tool;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Binds the JSON arguments the model produced for a tool call directly onto the parameter array of the tool method.
+ * <p>
+ * Everything that requires reflection (the parameter types declared by the generated argument mapper class, the
+ * Jackson readers for these types and the parsed {@code @P(defaultValue)} values) is resolved once when the binder is
+ * created, so binding a call only streams over the JSON document once.
+ */
+final class ToolArgumentsBinder {
+
+    private static final Logger log = Logger.getLogger(ToolArgumentsBinder.class);
+
+    private final Map<String, Slot> slots;
+    private final Slot[] slotsWithDefaultValue;
+    private final Object[] initialValues;
+    private final boolean hasDefaultValues;
+
+    ToolArgumentsBinder(ObjectMapper mapper, ToolInvoker.MethodMetadata methodMetadata, Class<?> argumentMapperClass) {
+        Map<String, Integer> nameToParamPosition = methodMetadata.getNameToParamPosition();
+        Map<String, String> defaultValues = methodMetadata.getParameterDefaultValues();
+        this.slots = new HashMap<>(nameToParamPosition.size());
+        this.initialValues = new Object[nameToParamPosition.size()];
+        this.hasDefaultValues = !defaultValues.isEmpty();
+        int withDefaultValue = 0;
+        for (var entry : nameToParamPosition.entrySet()) {
+            String paramName = entry.getKey();
+            int position = entry.getValue();
+            Class<?> type;
+            try {
+                Field field = argumentMapperClass.getField(paramName);
+                type = field.getType();
+            } catch (NoSuchFieldException e) {
+                log.warnv("Could not find field {0} in mapper class {1}", paramName, argumentMapperClass.getName());
+                continue;
+            }
+            if (type.isPrimitive()) {
+                // mirrors the value of an unset field of the generated argument mapper
+                initialValues[position] = Array.get(Array.newInstance(type, 1), 0);
+            }
+            String defaultValue = defaultValues.get(paramName);
+            if (defaultValue != null) {
+                withDefaultValue++;
+            }
+            slots.put(paramName, new Slot(paramName, position, type, mapper.readerFor(type), defaultValue,
+                    isImmutable(type) && defaultValue != null
+                            ? QuarkusToolExecutor.parseDefaultValue(defaultValue, paramName, type)
+                            : null));
+        }
+        this.slotsWithDefaultValue = new Slot[withDefaultValue];
+        int i = 0;
+        for (Slot slot : slots.values()) {
+            if (slot.defaultValue() != null) {
+                slotsWithDefaultValue[i++] = slot;
+            }
+        }
+    }
+
+    int expectedSize() {
+        return initialValues.length;
+    }
+
+    boolean hasDefaultValues() {
+        return hasDefaultValues;
+    }
+
+    /**
+     * Binds a call that did not provide any argument
+     */
+    Object[] bindEmpty() {
+        Object[] result = initialValues.clone();
+        return applyDefaultValues(result, hasDefaultValues ? new boolean[result.length] : null);
+    }
+
+    /**
+     * Binds the JSON object the parser is positioned in front of.
+     * Unknown arguments are ignored, like the generated argument mapper does.
+     */
+    Object[] bind(JsonParser parser) throws IOException {
+        Object[] result = initialValues.clone();
+        boolean[] present = hasDefaultValues ? new boolean[result.length] : null;
+
+        JsonToken token = parser.nextToken();
+        if (token != JsonToken.START_OBJECT) {
+            throw new IOException("Expected a JSON object but got " + token);
+        }
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            Slot slot = slots.get(name);
+            if (slot == null) {
+                parser.skipChildren();
+                continue;
+            }
+            result[slot.position()] = slot.reader().readValue(parser);
+            if (present != null) {
+                present[slot.position()] = true;
+            }
+        }
+        if (token != JsonToken.END_OBJECT) {
+            throw new IOException("Unexpected token " + token + " in tool arguments");
+        }
+        return applyDefaultValues(result, present);
+    }
+
+    private Object[] applyDefaultValues(Object[] result, boolean[] present) {
+        if (present == null) {
+            return result;
+        }
+        for (Slot slot : slotsWithDefaultValue) {
+            if (!present[slot.position()]) {
+                result[slot.position()] = slot.parsedDefaultValue() != null ? slot.parsedDefaultValue()
+                        : QuarkusToolExecutor.parseDefaultValue(slot.defaultValue(), slot.name(), slot.type());
+            }
+        }
+        return result;
+    }
+
+    private static boolean isImmutable(Class<?> type) {
+        return type.isPrimitive() || type.isEnum() || type == String.class || type == Integer.class
+                || type == Long.class || type == Double.class || type == Float.class || type == Boolean.class
+                || type == Short.class || type == Byte.class;
+    }
+
+    private record Slot(String name, int position, Class<?> type, ObjectReader reader, String defaultValue,
+            Object parsedDefaultValue) {
+    }
+}
@@ -16,8 +16,9 @@ import io.opentelemetry.api.trace.SpanKind;
 import io.opentelemetry.api.trace.Tracer;
 import io.opentelemetry.context.Scope;
 import io.quarkus.arc.All;
+import io.smallrye.mutiny.Uni;
 
-public class ToolSpanWrapper implements QuarkusToolExecutor.Wrapper {
+public class ToolSpanWrapper implements QuarkusToolExecutor.AsyncWrapper {
     private static final Logger LOG = Logger.getLogger(ToolSpanWrapper.class);
     private static final String OTEL_SCOPE_KEY_NAME = "OTelScope";
     private static final String OTEL_SPAN_KEY_NAME = "OTelSpan";
@@ -101,6 +102,64 @@ public class ToolSpanWrapper implements QuarkusToolExecutor.Wrapper {
         }
     }
 
+    @Override
+    public Uni<ToolExecutionResult> wrapAsync(ToolExecutionRequest toolExecutionRequest, InvocationContext invocationContext,
+            BiFunction<ToolExecutionRequest, InvocationContext, Uni<ToolExecutionResult>> fun,
+            QuarkusToolExecutor executor) {
+
+        var parentSpan = Span.current();
+
+        Span span = tracer.spanBuilder("langchain4j.tools." + toolExecutionRequest.name())
+                .setSpanKind(SpanKind.INTERNAL)
+                .setAttribute("gen_ai.operation.name", "execute_tool")
+                .setAttribute("gen_ai.tool.call.id", toolExecutionRequest.id())
+                .setAttribute("gen_ai.tool.name", toolExecutionRequest.name())
+                .setAttribute("gen_ai.tool.type", "function")
+                .startSpan();
+
+        if (includeArguments) {
+            span.setAttribute("gen_ai.tool.call.arguments", toolExecutionRequest.arguments());
+        }
+
+        Uni<ToolExecutionResult> uni;
+        ToolExecutionRequestContext requestContext;
+        // the scope only covers the invocation of the tool method, the span itself ends when the result is available
+        try (Scope scope = span.makeCurrent()) {
+            requestContext = ToolExecutionRequestContext.builder()
+                    .request(toolExecutionRequest)
+                    .invocationContext(invocationContext)
+                    .attribute(OTEL_PARENT_SPAN_KEY_NAME, parentSpan.getSpanContext().isValid() ? parentSpan : span)
+                    .attribute(OTEL_SCOPE_KEY_NAME, scope)
+                    .attribute(OTEL_SPAN_KEY_NAME, span)
+                    .build();
+            notifyContributorsOnRequest(requestContext, span);
+            uni = fun.apply(toolExecutionRequest, invocationContext);
+        } catch (Throwable t) {
+            span.recordException(t);
+            span.end();
+            throw t;
+        }
+
+        return uni
+                .invoke(result -> {
+                    if (includeResult && result != null) {
+                        span.setAttribute("gen_ai.tool.call.result", result.resultText());
+                    }
+                    notifyContributorsOnResponse(ToolExecutionResponseContext.builder()
+                            .requestContext(requestContext)
+                            .result(result)
+                            .build(), span);
+                })
+                .onFailure().invoke(t -> {
+                    span.recordException(t);
+                    notifyContributorsOnError(ToolExecutionErrorContext.builder()
+                            .requestContext(requestContext)
+                            .error(t)
+                            .build(), span);
+                })
+                .onTermination().invoke(span::end);
+    }
+
     private void notifyContributorsOnRequest(ToolExecutionRequestContext requestContext, Span span) {
         for (ToolSpanContributor contributor : this.toolSpanContributors) {
             try {
@@ -17,6 +17,7 @@ import io.quarkiverse.langchain4j.guardrails.ToolOutputGuardrail;
 import io.quarkiverse.langchain4j.runtime.BlockingToolNotAllowedException;
 import io.quarkiverse.langchain4j.runtime.tool.QuarkusToolExecutor;
 import io.quarkiverse.langchain4j.runtime.tool.ToolMethodCreateInfo;
+import io.smallrye.mutiny.Uni;
 
 /**
  * Wrapper that integrates tool guardrails into the tool execution flow.
@@ -35,7 +36,7 @@ import io.quarkiverse.langchain4j.runtime.tool.ToolMethodCreateInfo;
  * @see ToolOutputGuardrail
  */
 @ApplicationScoped
-public class ToolGuardrailsWrapper implements QuarkusToolExecutor.Wrapper {
+public class ToolGuardrailsWrapper implements QuarkusToolExecutor.AsyncWrapper {
 
     private static final Logger log = Logger.getLogger(ToolGuardrailsWrapper.class);
 
@@ -76,6 +77,26 @@ public class ToolGuardrailsWrapper implements QuarkusToolExecutor.Wrapper {
         return executeWithGuardrails(toolExecutionRequest, invocationContext, next, methodCreateInfo);
     }
 
+    /**
+     * Guardrails may block, so the non-blocking execution is only possible for tools that do not declare any.
+     */
+    @Override
+    public boolean supportsAsync(QuarkusToolExecutor executor) {
+        ToolMethodCreateInfo methodCreateInfo = executor.getMethodCreateInfo();
+        return methodCreateInfo == null
+                || (!guardrailService.hasInputGuardrails(methodCreateInfo)
+                        && !guardrailService.hasOutputGuardrails(methodCreateInfo));
+    }
+
+    @Override
+    public Uni<ToolExecutionResult> wrapAsync(ToolExecutionRequest toolExecutionRequest,
+            InvocationContext invocationContext,
+            BiFunction<ToolExecutionRequest, InvocationContext, Uni<ToolExecutionResult>> next,
+            QuarkusToolExecutor executor) {
+        // only called when supportsAsync returned true, i.e. there is no guardrail to apply
+        return next.apply(toolExecutionRequest, invocationContext);
+    }
+
     /**
      * Executes the tool with input and output guardrails.
      * This method contains the actual guardrail execution logic and is called either:
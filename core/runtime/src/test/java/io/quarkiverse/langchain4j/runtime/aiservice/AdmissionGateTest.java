@@ -0,0 +1,59 @@
+package io.quarkiverse.langchain4j.runtime.aiservice;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkiverse.langchain4j.runtime.ChatAdmissionRejectedException;
+
+class AdmissionGateTest {
+
+    @Test
+    void shouldRejectOnceTheTokenBudgetIsExhausted() {
+        AdmissionGate gate = new AdmissionGate("model 'test'", 1000, 0);
+
+        gate.acquire(false, System.nanoTime());
+        gate.recordUsage(600);
+        // the budget is not exhausted yet
+        gate.acquire(false, System.nanoTime());
+        gate.recordUsage(600);
+
+        assertThrows(ChatAdmissionRejectedException.class, () -> gate.acquire(false, System.nanoTime()));
+    }
+
+    @Test
+    void shouldWaitForTheTokenBudgetToBeReplenished() {
+        // one token is replenished every millisecond
+        AdmissionGate gate = new AdmissionGate("model 'test'", 60_000, 0);
+        gate.recordUsage(60_050);
+
+        long start = System.nanoTime();
+        assertDoesNotThrow(() -> gate.acquire(true, start + TimeUnit.SECONDS.toNanos(5)));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(40));
+    }
+
+    @Test
+    void shouldRejectWhenTheBudgetCannotBeReplenishedBeforeTheDeadline() {
+        AdmissionGate gate = new AdmissionGate("model 'test'", 60, 0);
+        gate.recordUsage(120);
+
+        assertThrows(ChatAdmissionRejectedException.class,
+                () -> gate.acquire(true, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(50)));
+    }
+
+    @Test
+    void shouldLimitTheConcurrentRequests() {
+        AdmissionGate gate = new AdmissionGate("AI service 'test'", 0, 2);
+
+        gate.acquire(false, System.nanoTime());
+        gate.acquire(false, System.nanoTime());
+        assertThrows(ChatAdmissionRejectedException.class, () -> gate.acquire(false, System.nanoTime()));
+
+        gate.release();
+        assertDoesNotThrow(() -> gate.acquire(false, System.nanoTime()));
+    }
+}
@@ -0,0 +1,70 @@
+package io.quarkiverse.langchain4j.runtime.tool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class ToolArgumentsBinderTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @SuppressWarnings("unused")
+    public static class Arguments {
+        public String city;
+        public int days;
+        public Unit unit;
+        public List tags;
+    }
+
+    public enum Unit {
+        CELSIUS,
+        FAHRENHEIT
+    }
+
+    private final ToolArgumentsBinder binder = new ToolArgumentsBinder(MAPPER,
+            new ToolInvoker.MethodMetadata(false, Map.of("city", 0, "days", 1, "unit", 2, "tags", 3), null, null,
+                    Map.of("unit", "CELSIUS")),
+            Arguments.class);
+
+    @Test
+    void shouldBindArgumentsByName() throws IOException {
+        Object[] args = bind("{\"days\": 3, \"tags\": [\"a\", \"b\"], \"city\": \"Athens\", \"unit\": \"FAHRENHEIT\"}");
+
+        assertArrayEquals(new Object[] { "Athens", 3, Unit.FAHRENHEIT, List.of("a", "b") }, args);
+    }
+
+    @Test
+    void shouldApplyDefaultsAndPrimitiveZeroValuesForMissingArguments() throws IOException {
+        Object[] args = bind("{\"city\": \"Athens\", \"unknown\": {\"nested\": [1, 2]}}");
+
+        assertArrayEquals(new Object[] { "Athens", 0, Unit.CELSIUS, null }, args);
+        assertArrayEquals(new Object[] { null, 0, Unit.CELSIUS, null }, binder.bindEmpty());
+    }
+
+    @Test
+    void shouldNotApplyDefaultWhenArgumentIsExplicitlyNull() throws IOException {
+        Object[] args = bind("{\"unit\": null}");
+
+        assertArrayEquals(new Object[] { null, 0, null, null }, args);
+    }
+
+    @Test
+    void shouldRejectInvalidDocuments() {
+        assertThrows(IOException.class, () -> bind("[1, 2]"));
+        assertThrows(IOException.class, () -> bind("{\"days\": \"many\"}"));
+    }
+
+    private Object[] bind(String json) throws IOException {
+        try (JsonParser parser = MAPPER.createParser(json)) {
+            return binder.bind(parser);
+        }
+    }
+}
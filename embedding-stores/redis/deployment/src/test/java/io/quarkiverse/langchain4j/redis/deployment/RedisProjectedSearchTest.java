@@ -0,0 +1,67 @@
+package io.quarkiverse.langchain4j.redis.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import io.quarkiverse.langchain4j.redis.RedisEmbeddingStore;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class RedisProjectedSearchTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class))
+            .overrideRuntimeConfigKey("quarkus.langchain4j.redis.dimension", "3")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.redis.index-name", "projected-index")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.redis.prefix", "projected:")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.redis.textual-metadata-fields", "author")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.redis.numeric-metadata-fields", "year,rating")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.redis.return-embeddings", "false");
+
+    @Inject
+    RedisEmbeddingStore embeddingStore;
+
+    @AfterEach
+    void clear() {
+        embeddingStore.deleteAll();
+    }
+
+    @Test
+    void shouldReturnTextAndMetadataWithoutEmbedding() {
+        TextSegment segment = TextSegment.from("Quarkus", Metadata.from(Map.of("author", "Alice", "year", 2019,
+                "rating", 4.5)));
+        String id = embeddingStore.add(Embedding.from(new float[] { 1f, 0f, 0f }), segment);
+        embeddingStore.add(Embedding.from(new float[] { 0f, 1f, 0f }), TextSegment.from("Redis"));
+
+        List<EmbeddingMatch<TextSegment>> matches = embeddingStore.search(EmbeddingSearchRequest.builder()
+                .queryEmbedding(Embedding.from(new float[] { 1f, 0.1f, 0f }))
+                .maxResults(2)
+                .build()).matches();
+
+        assertThat(matches).hasSize(2);
+        EmbeddingMatch<TextSegment> match = matches.get(0);
+        assertThat(match.embeddingId()).isEqualTo(id);
+        assertThat(match.score()).isGreaterThan(matches.get(1).score());
+        assertThat(match.embedding()).isNull();
+        assertThat(match.embedded().text()).isEqualTo("Quarkus");
+        assertThat(match.embedded().metadata().getString("author")).isEqualTo("Alice");
+        assertThat(match.embedded().metadata().getInteger("year")).isEqualTo(2019);
+        assertThat(match.embedded().metadata().getDouble("rating")).isEqualTo(4.5);
+        assertThat(matches.get(1).embedded().text()).isEqualTo("Redis");
+    }
+}
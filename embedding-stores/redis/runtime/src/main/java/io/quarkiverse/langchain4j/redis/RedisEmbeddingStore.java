@@ -5,6 +5,8 @@ import static java.lang.String.format;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -28,6 +30,7 @@ import dev.langchain4j.store.embedding.EmbeddingStore;
 import io.quarkiverse.langchain4j.QuarkusJsonCodecFactory;
 import io.quarkiverse.langchain4j.redis.runtime.RedisFilterMapper;
 import io.quarkiverse.langchain4j.redis.runtime.RedisSchema;
+import io.quarkiverse.langchain4j.redis.runtime.RedisStorageType;
 import io.quarkus.redis.datasource.ReactiveRedisDataSource;
 import io.quarkus.redis.datasource.keys.KeyScanArgs;
 import io.quarkus.redis.datasource.search.CreateArgs;
@@ -44,6 +47,7 @@ public class RedisEmbeddingStore implements EmbeddingStore<TextSegment> {
     public static final String ID = "id";
     private final ReactiveRedisDataSource ds;
     private final RedisSchema schema;
+    private final boolean returnEmbeddings;
     private final Logger LOG = Logger.getLogger(RedisEmbeddingStore.class);
     private final boolean indexCreated;
     private boolean warnedAboutWrongDimension = false;
@@ -55,8 +59,17 @@ public class RedisEmbeddingStore implements EmbeddingStore<TextSegment> {
     }
 
     public RedisEmbeddingStore(ReactiveRedisDataSource ds, RedisSchema schema) {
+        this(ds, schema, true);
+    }
+
+    /**
+     * @param returnEmbeddings whether the matches returned by {@link #search(EmbeddingSearchRequest)} contain their
+     *        embedding. When {@code false}, the search only fetches the text and metadata fields of the matching documents.
+     */
+    public RedisEmbeddingStore(ReactiveRedisDataSource ds, RedisSchema schema, boolean returnEmbeddings) {
         this.ds = ds;
         this.schema = schema;
+        this.returnEmbeddings = returnEmbeddings;
         this.indexCreated = createIndexIfDoesNotExist();
     }
 
@@ -71,8 +84,12 @@ public class RedisEmbeddingStore implements EmbeddingStore<TextSegment> {
                 }).await().indefinitely();
         if (!indexes.contains(schema.getIndexName())) {
             CreateArgs indexCreateArgs = new CreateArgs()
-                    .onJson()
                     .prefixes(schema.getPrefix());
+            if (schema.getStorageType() == RedisStorageType.HASH) {
+                indexCreateArgs.onHash();
+            } else {
+                indexCreateArgs.onJson();
+            }
             schema.defineFields(indexCreateArgs);
             LOG.debug("Creating Redis index " + schema.getIndexName() + " with arguments: " + indexCreateArgs.toArgs());
             ds.search().ftCreate(schema.getIndexName(), indexCreateArgs).await().indefinitely();
@@ -139,8 +156,6 @@ public class RedisEmbeddingStore implements EmbeddingStore<TextSegment> {
             String id = ids.get(i);
             Embedding embedding = embeddings.get(i);
             TextSegment textSegment = embedded == null ? null : embedded.get(i);
-            Map<String, Object> fields = new HashMap<>();
-            fields.put(schema.getVectorFieldName(), embedding.vector());
             if (!warnedAboutWrongDimension && indexCreated && embedding.vector().length != schema.getDimension()) {
                 LOG.warn("Creating an embedding with dimension " + embedding.vector().length + " but the index was " +
                         "created with dimension " + schema.getDimension() + ". " +
@@ -149,12 +164,31 @@ public class RedisEmbeddingStore implements EmbeddingStore<TextSegment> {
                         "This warning will be shown only once.");
                 warnedAboutWrongDimension = true;
             }
-            if (textSegment != null) {
-                fields.put(schema.getScalarFieldName(), textSegment.text());
-                fields.putAll(textSegment.metadata().toMap());
-            }
             String key = schema.getPrefix() + id;
-            commands.add(Request.cmd(Command.JSON_SET).arg(key).arg("$").arg(Json.toJson(fields)));
+            if (schema.getStorageType() == RedisStorageType.HASH) {
+                // HSET only sets the given fields, so remove the ones of a previous embedding with the same id first,
+                // in a transaction so that the index and the readers never see the hash without its fields
+                commands.add(Request.cmd(Command.MULTI));
+                commands.add(Request.cmd(Command.DEL).arg(key));
+                Request hset = Request.cmd(Command.HSET).arg(key)
+                        .arg(schema.getVectorFieldName()).arg(toBytes(embedding.vector()));
+                if (textSegment != null) {
+                    hset.arg(schema.getScalarFieldName()).arg(textSegment.text());
+                    for (Map.Entry<String, Object> entry : textSegment.metadata().toMap().entrySet()) {
+                        hset.arg(entry.getKey()).arg(String.valueOf(entry.getValue()));
+                    }
+                }
+                commands.add(hset);
+                commands.add(Request.cmd(Command.EXEC));
+            } else {
+                Map<String, Object> fields = new HashMap<>();
+                fields.put(schema.getVectorFieldName(), embedding.vector());
+                if (textSegment != null) {
+                    fields.put(schema.getScalarFieldName(), textSegment.text());
+                    fields.putAll(textSegment.metadata().toMap());
+                }
+                commands.add(Request.cmd(Command.JSON_SET).arg(key).arg("$").arg(Json.toJson(fields)));
+            }
         }
         ds.getRedis().batchAndAwait(commands);
     }
@@ -169,23 +203,76 @@ public class RedisEmbeddingStore implements EmbeddingStore<TextSegment> {
                 .sortByAscending(SCORE_FIELD_NAME)
                 .param("BLOB", request.queryEmbedding().vector())
                 .dialect(2);
+        if (!returnEmbeddings) {
+            // only fetch the fields needed to build the matches, instead of the whole document
+            args.returnAttribute(SCORE_FIELD_NAME);
+            args.returnAttribute(schema.getScalarFieldName());
+            schema.getTextualMetadataFields().forEach(args::returnAttribute);
+            schema.getNumericMetadataFields().forEach(args::returnAttribute);
+        }
         Uni<SearchQueryResponse> search = ds.search()
                 .ftSearch(schema.getIndexName(), query, args);
         SearchQueryResponse response = search.await().indefinitely();
-        List<EmbeddingMatch<TextSegment>> matches = response.documents().stream().map(this::extractEmbeddingMatch)
-                .filter(embeddingMatch -> embeddingMatch.score() >= request.minScore())
-                .collect(toList());
+        List<EmbeddingMatch<TextSegment>> matches = new ArrayList<>(response.documents().size());
+        for (Document document : response.documents()) {
+            double score = (2 - document.property(SCORE_FIELD_NAME).asDouble()) / 2;
+            if (score < request.minScore()) {
+                continue;
+            }
+            if (!returnEmbeddings) {
+                matches.add(extractEmbeddingMatchFromFields(document, score, null));
+            } else if (schema.getStorageType() == RedisStorageType.HASH) {
+                Embedding embedding = new Embedding(
+                        toVector(document.property(schema.getVectorFieldName()).value().toBytes()));
+                matches.add(extractEmbeddingMatchFromFields(document, score, embedding));
+            } else {
+                matches.add(extractEmbeddingMatch(document, score));
+            }
+        }
         return new EmbeddingSearchResult<>(matches);
     }
 
-    private EmbeddingMatch<TextSegment> extractEmbeddingMatch(Document document) {
+    /**
+     * Creates a match from the fields of the document returned by the search, which are the fields of a hash or the
+     * fields listed in the {@code RETURN} option of the query.
+     */
+    private EmbeddingMatch<TextSegment> extractEmbeddingMatchFromFields(Document document, double score,
+            Embedding embedding) {
+        String id = document.key().substring(schema.getPrefix().length());
+        Document.Property embedded = document.property(schema.getScalarFieldName());
+        if (embedded == null) {
+            return new EmbeddingMatch<>(score, id, embedding, null);
+        }
+        Map<String, Object> allMetadata = new HashMap<>();
+        for (String name : schema.getTextualMetadataFields()) {
+            Document.Property property = document.property(name);
+            if (property != null) {
+                allMetadata.put(name, property.asString());
+            }
+        }
+        for (String name : schema.getNumericMetadataFields()) {
+            Document.Property property = document.property(name);
+            if (property != null) {
+                allMetadata.put(name, parseNumber(property.asString()));
+            }
+        }
+        return new EmbeddingMatch<>(score, id, embedding, new TextSegment(embedded.asString(), Metadata.from(allMetadata)));
+    }
+
+    private static Object parseNumber(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return Double.parseDouble(value);
+        }
+    }
+
+    private EmbeddingMatch<TextSegment> extractEmbeddingMatch(Document document, double score) {
         try {
             JsonNode jsonNode = QuarkusJsonCodecFactory.ObjectMapperHolder.MAPPER
                     .readTree(document.property("$").asString());
             JsonNode embedded = jsonNode.get(schema.getScalarFieldName());
-            Embedding embedding = new Embedding(
-                    Json.fromJson(jsonNode.get(schema.getVectorFieldName()).toString(), float[].class));
-            double score = (2 - document.property(SCORE_FIELD_NAME).asDouble()) / 2;
+            Embedding embedding = new Embedding(toVector(jsonNode.get(schema.getVectorFieldName())));
             String id = document.key().substring(schema.getPrefix().length());
             Map<String, Object> textualMetadata = schema.getTextualMetadataFields().stream()
                     .filter(jsonNode::has)
@@ -209,7 +296,26 @@ public class RedisEmbeddingStore implements EmbeddingStore<TextSegment> {
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
+    }
 
+    private static float[] toVector(JsonNode node) {
+        float[] vector = new float[node.size()];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = node.get(i).floatValue();
+        }
+        return vector;
+    }
+
+    private static float[] toVector(byte[] bytes) {
+        float[] vector = new float[bytes.length / Float.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(vector);
+        return vector;
+    }
+
+    private static byte[] toBytes(float[] vector) {
+        ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(vector);
+        return buffer.array();
     }
 
     /**
@@ -232,6 +338,8 @@ public class RedisEmbeddingStore implements EmbeddingStore<TextSegment> {
 
         private RedisSchema schema;
 
+        private boolean returnEmbeddings = true;
+
         public Builder dataSource(ReactiveRedisDataSource client) {
             this.redisClient = client;
             return this;
@@ -242,8 +350,13 @@ public class RedisEmbeddingStore implements EmbeddingStore<TextSegment> {
             return this;
         }
 
+        public Builder returnEmbeddings(boolean returnEmbeddings) {
+            this.returnEmbeddings = returnEmbeddings;
+            return this;
+        }
+
         public RedisEmbeddingStore build() {
-            return new RedisEmbeddingStore(redisClient, schema);
+            return new RedisEmbeddingStore(redisClient, schema, returnEmbeddings);
         }
 
     }
@@ -53,8 +53,10 @@ public class RedisEmbeddingStoreRecorder {
                         .vectorAlgorithm(storeConfig.vectorAlgorithm())
                         .dimension(storeConfig.dimension().get())
                         .metricType(storeConfig.distanceMetric())
+                        .storageType(storeConfig.storageType())
                         .build();
                 builder.schema(schema);
+                builder.returnEmbeddings(storeConfig.returnEmbeddings());
 
                 return builder.build();
             }
@@ -0,0 +1,18 @@
+package io.quarkiverse.langchain4j.redis.runtime;
+
+/**
+ * How the embeddings are stored in Redis.
+ */
+public enum RedisStorageType {
+
+    /**
+     * Each embedding is a JSON document, the vector being an array of numbers. Requires the RedisJSON module.
+     */
+    JSON,
+
+    /**
+     * Each embedding is a hash, the vector being a blob of little-endian 32-bit floats. This takes several times less
+     * memory and network bytes than {@link #JSON}.
+     */
+    HASH
+}
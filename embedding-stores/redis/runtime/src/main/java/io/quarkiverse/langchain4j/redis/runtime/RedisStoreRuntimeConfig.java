@@ -73,4 +73,23 @@ public interface RedisStoreRuntimeConfig {
     @WithDefault("HNSW")
     VectorAlgorithm vectorAlgorithm();
 
+    /**
+     * How the embeddings are stored in Redis: as JSON documents, or as hashes holding the vector as a binary blob of
+     * little-endian 32-bit floats, which is several times more compact.
+     * <p>
+     * The index is created for this storage type, so an existing index has to be dropped when changing it.
+     */
+    @WithDefault("JSON")
+    RedisStorageType storageType();
+
+    /**
+     * Whether the matches returned by a search contain their embedding vector.
+     * <p>
+     * Most retrieval use cases only need the text and metadata of the matches. When set to {@code false}, the search only
+     * fetches these fields from Redis instead of the whole documents, which reduces the size of the responses and the
+     * time spent decoding them. The matches then have no embedding.
+     */
+    @WithDefault("true")
+    boolean returnEmbeddings();
+
 }
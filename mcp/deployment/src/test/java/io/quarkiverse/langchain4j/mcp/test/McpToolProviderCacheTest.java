@@ -0,0 +1,71 @@
+package io.quarkiverse.langchain4j.mcp.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.invocation.InvocationContext;
+import dev.langchain4j.service.tool.ToolProvider;
+import dev.langchain4j.service.tool.ToolProviderResult;
+import io.quarkiverse.langchain4j.runtime.aiservice.QuarkusToolProviderRequest;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Verifies that the tools provided for a set of MCP clients are reused across invocations.
+ */
+public class McpToolProviderCacheTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(AbstractMockHttpMcpServer.class, MockHttpMcpServer.class, Mock2HttpMcpServer.class)
+                    .addAsResource(new StringAsset("""
+                            quarkus.langchain4j.openai.api-key=whatever
+                            quarkus.langchain4j.mcp.client1.transport-type=http
+                            quarkus.langchain4j.mcp.client1.url=http://localhost:8081/mock-mcp/sse
+                            quarkus.langchain4j.mcp.client2.transport-type=http
+                            quarkus.langchain4j.mcp.client2.url=http://localhost:8081/mock2-mcp/sse
+                            """),
+                            "application.properties"));
+
+    @Inject
+    ToolProvider toolProvider;
+
+    @Test
+    public void toolsAreReusedForTheSameClients() {
+        ToolProviderResult allTools = toolProvider.provideTools(request(List.of()));
+        assertThat(toolProvider.provideTools(request(List.of()))).isSameAs(allTools);
+
+        ToolProviderResult client2Tools = toolProvider.provideTools(request(List.of("client2")));
+        assertThat(client2Tools).isNotSameAs(allTools);
+        assertThat(toolNames(client2Tools)).containsExactly("subtract");
+        assertThat(toolProvider.provideTools(request(List.of("client2")))).isSameAs(client2Tools);
+
+        assertThat(toolNames(allTools)).contains("add", "subtract");
+    }
+
+    private static QuarkusToolProviderRequest request(List<String> mcpClientNames) {
+        var invocationContext = InvocationContext.builder()
+                .chatMemoryId("1")
+                .build();
+        return new QuarkusToolProviderRequest(invocationContext, new UserMessage("hi"), mcpClientNames);
+    }
+
+    private static Set<String> toolNames(ToolProviderResult result) {
+        return result.tools().keySet().stream()
+                .map(ToolSpecification::name)
+                .collect(Collectors.toSet());
+    }
+}
@@ -251,7 +251,8 @@ public class McpRecorder {
                     clients.put(mcpClientName, context.getInjectedReference(McpClient.class, qualifier));
                 }
                 boolean exposeResourcesAsTools = mcpRuntimeConfiguration.getValue().exposeResourcesAsTools().orElse(false);
-                return new QuarkusMcpToolProvider(clients, exposeResourcesAsTools);
+                return new QuarkusMcpToolProvider(clients, exposeResourcesAsTools,
+                        mcpRuntimeConfiguration.getValue().toolProviderCacheTtl().orElse(null));
             }
         };
     }
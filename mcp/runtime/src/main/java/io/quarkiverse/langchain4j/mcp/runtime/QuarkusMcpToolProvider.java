@@ -1,8 +1,13 @@
 package io.quarkiverse.langchain4j.mcp.runtime;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 
@@ -14,8 +19,20 @@ import dev.langchain4j.service.tool.ToolProviderRequest;
 import dev.langchain4j.service.tool.ToolProviderResult;
 import io.quarkiverse.langchain4j.runtime.aiservice.QuarkusToolProviderRequest;
 
+/**
+ * Provides the tools of the MCP clients to the AI services.
+ * <p>
+ * The tools provided for a given set of clients are kept in a catalog that is reused by the subsequent invocations
+ * as long as the tool lists of the clients do not change (or, if a TTL is configured, until it elapses), so that the
+ * tool specifications and executors are not rebuilt on every invocation.
+ */
 public class QuarkusMcpToolProvider extends McpToolProvider {
 
+    /**
+     * The key of the catalog of all the clients, the keys of the other catalogs are non-empty lists of client names
+     */
+    private static final List<String> ALL_CLIENTS = List.of();
+
     /**
      * We keep a separate mapping of client names despite the key being available through client.key()
      * because calling client.key() may unnecessarily trigger initialization of the client
@@ -23,13 +40,23 @@ public class QuarkusMcpToolProvider extends McpToolProvider {
      */
     private Map<String, McpClient> nameToClient = new HashMap<>();
 
-    QuarkusMcpToolProvider(Map<String, McpClient> nameToClient, boolean exposeResourcesAsTools) {
+    private final List<McpClient> allClients;
+    private final long cacheTtlNanos;
+    private final ConcurrentMap<List<String>, Catalog> catalogs = new ConcurrentHashMap<>();
+
+    /**
+     * @param cacheTtl how long the catalogs are reused without checking the tool lists of the clients, or {@code null}
+     *        if they should be checked on every invocation
+     */
+    QuarkusMcpToolProvider(Map<String, McpClient> nameToClient, boolean exposeResourcesAsTools, Duration cacheTtl) {
         super(nameToClient.values().stream().toList(), false,
                 AlwaysTrueMcpClientToolSpecificationBiPredicate.INSTANCE,
                 Function.identity(),
                 exposeResourcesAsTools ? DefaultMcpResourcesAsToolsPresenter.builder().build() : null,
                 null, null);
         this.nameToClient = nameToClient;
+        this.allClients = nameToClient.values().stream().toList();
+        this.cacheTtlNanos = cacheTtl != null ? cacheTtl.toNanos() : -1;
     }
 
     @Override
@@ -40,7 +67,7 @@ public class QuarkusMcpToolProvider extends McpToolProvider {
                 return ToolProviderResult.builder().build();
             } else if (quarkusRequest.getMcpClientNames().isEmpty()) {
                 // This means we have a @McpToolBox annotation with no arguments -> all clients
-                return provideTools(request, AlwaysTrueMcpClientToolSpecificationBiPredicate.INSTANCE);
+                return provideCachedTools(request, ALL_CLIENTS, allClients);
             } else {
                 // This means specific clients were given explicitly... so,
                 // limit the request to only these clients
@@ -49,11 +76,62 @@ public class QuarkusMcpToolProvider extends McpToolProvider {
                 List<McpClient> allowedClients = quarkusRequest.getMcpClientNames().stream()
                         .map(nameToClient::get)
                         .toList();
-                return provideTools(request, AlwaysTrueMcpClientToolSpecificationBiPredicate.INSTANCE, allowedClients);
+                return provideCachedTools(request, quarkusRequest.getMcpClientNames(), allowedClients);
             }
         } else {
-            return provideTools(request, AlwaysTrueMcpClientToolSpecificationBiPredicate.INSTANCE);
+            return provideCachedTools(request, ALL_CLIENTS, allClients);
+        }
+    }
+
+    private ToolProviderResult provideCachedTools(ToolProviderRequest request, List<String> key, List<McpClient> clients) {
+        long now = System.nanoTime();
+        Catalog catalog = catalogs.get(key);
+        if (catalog != null && isUpToDate(catalog, clients, now)) {
+            return catalog.result();
+        }
+        // the tool lists are captured before the tools are built, so a change happening in the meantime triggers
+        // another rebuild on the next invocation
+        List<List<ToolSpecification>> toolLists = new ArrayList<>(clients.size());
+        for (McpClient client : clients) {
+            toolLists.add(listToolsOrNull(client));
+        }
+        ToolProviderResult result = provideTools(request, AlwaysTrueMcpClientToolSpecificationBiPredicate.INSTANCE,
+                clients);
+        catalogs.put(List.copyOf(key), new Catalog(toolLists, result, now));
+        return result;
+    }
+
+    private boolean isUpToDate(Catalog catalog, List<McpClient> clients, long now) {
+        if (cacheTtlNanos >= 0) {
+            return now - catalog.createdAt() < cacheTtlNanos && !catalog.toolLists().contains(null);
+        }
+        // the clients cache their tool lists until the server notifies them of a change, in which case they return a
+        // new list, so the comparison is usually an identity check
+        for (int i = 0; i < clients.size(); i++) {
+            List<ToolSpecification> toolList = catalog.toolLists().get(i);
+            if (toolList == null || !Objects.equals(toolList, listToolsOrNull(clients.get(i)))) {
+                return false;
+            }
         }
+        return true;
+    }
+
+    private static List<ToolSpecification> listToolsOrNull(McpClient client) {
+        try {
+            return client.listTools();
+        } catch (Exception e) {
+            // the failure is reported when building the tools
+            return null;
+        }
+    }
+
+    /**
+     * The tools provided for a set of clients
+     *
+     * @param toolLists the tool lists of the clients the tools were built from, {@code null} for the clients whose tool
+     *        list could not be obtained
+     */
+    private record Catalog(List<List<ToolSpecification>> toolLists, ToolProviderResult result, long createdAt) {
     }
 
     private static class AlwaysTrueMcpClientToolSpecificationBiPredicate
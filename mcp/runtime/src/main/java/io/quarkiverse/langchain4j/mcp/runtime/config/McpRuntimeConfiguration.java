@@ -1,5 +1,6 @@
 package io.quarkiverse.langchain4j.mcp.runtime.config;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
 
@@ -38,6 +39,16 @@ public interface McpRuntimeConfiguration {
     @WithDefault("false")
     Optional<Boolean> exposeResourcesAsTools();
 
+    /**
+     * How long the tools provided by the MCP clients to the AI services are reused without asking the clients for their
+     * tool lists again. By default, the clients are asked for their tool lists on every AI service invocation, which
+     * is cheap when they cache them (see {@code cache-tool-list}), and the tools are only rebuilt when a tool list
+     * changes, for example after the server sent a {@code notifications/tools/list_changed} notification.
+     * Setting a TTL avoids asking the clients altogether, at the cost of picking up changes only once it has elapsed.
+     */
+    @WithName("tool-provider.cache-ttl")
+    Optional<Duration> toolProviderCacheTtl();
+
     /**
      * Whether tracing is enabled for MCP clients.
      * Requires the OpenTelemetry extension to be present.
@@ -6,7 +6,6 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import java.io.IOException;
 import java.net.URI;
 import java.time.Duration;
-import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -14,14 +13,11 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.Consumer;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 import jakarta.ws.rs.core.MultivaluedMap;
 
 import org.jboss.logging.Logger;
-import org.jboss.resteasy.reactive.client.SseEvent;
 import org.jboss.resteasy.reactive.common.util.MultivaluedTreeMap;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -39,9 +35,7 @@ import io.quarkiverse.langchain4j.mcp.auth.McpAuthenticationException;
 import io.quarkiverse.langchain4j.mcp.auth.McpClientAuthProvider;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
-import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
-import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.RequestOptions;
@@ -212,10 +206,7 @@ public class QuarkusStreamableHttpMcpTransport implements McpTransport {
                                     String contentType = response.result().getHeader("Content-Type");
                                     if (id != null && contentType != null && contentType.contains("text/event-stream")) {
                                         // the server has started an SSE channel
-                                        response.result().handler(createSseBufferHandler(eventStr -> {
-                                            SseEvent<String> sseEvent = parseSseEvent(eventStr);
-                                            sseSubscriber.accept(sseEvent);
-                                        }));
+                                        response.result().handler(new SseEventDecoder(sseSubscriber));
                                     } else {
                                         // the server has sent a single regular response
                                         if (id == null) {
@@ -356,8 +347,7 @@ public class QuarkusStreamableHttpMcpTransport implements McpTransport {
                             log.debug("Subsidiary SSE channel established");
                             result.complete(null);
 
-                            response.result().handler(
-                                    createSseBufferHandler(this::processSubsidiarySseEvent));
+                            response.result().handler(new SseEventDecoder(this::processSubsidiarySseEvent));
                             response.result().endHandler(v -> {
                                 log.debug("Subsidiary SSE channel closed");
                                 if (!closed.get()) {
@@ -396,33 +386,25 @@ public class QuarkusStreamableHttpMcpTransport implements McpTransport {
      * Processes an SSE event received on the subsidiary channel.
      * Handles data, id, and retry fields.
      */
-    private void processSubsidiarySseEvent(String eventStr) {
-        // Parse SSE fields from the raw event string
-        String[] lines = eventStr.split("\\R");
-        for (String line : lines) {
-            if (line.startsWith("data:")) {
-                String data = line.substring(5).trim();
-                if (data.isEmpty()) {
-                    continue;
-                }
-                if (logResponses) {
-                    log.info("Subsidiary SSE event received: " + data);
-                }
-                try {
-                    JsonNode jsonNode = objectMapper.readTree(data);
-                    operationHandler.handle(jsonNode);
-                } catch (JsonProcessingException e) {
-                    log.warn("Failed to parse subsidiary SSE event: " + data, e);
-                }
-            } else if (line.startsWith("id:")) {
-                subsidiaryLastEventId.set(line.substring(3).trim());
-            } else if (line.startsWith("retry:")) {
-                try {
-                    subsidiaryRetryMs.set(Long.parseLong(line.substring(6).trim()));
-                } catch (NumberFormatException e) {
-                    log.warn("Failed to parse SSE retry value: " + line, e);
-                }
-            }
+    private void processSubsidiarySseEvent(SseEventDecoder.Event event) {
+        if (event.id() != null) {
+            subsidiaryLastEventId.set(event.id());
+        }
+        if (event.retry() != null) {
+            subsidiaryRetryMs.set(event.retry());
+        }
+        String data = event.data();
+        if (data == null || data.isBlank()) {
+            return;
+        }
+        if (logResponses) {
+            log.info("Subsidiary SSE event received: " + data);
+        }
+        try {
+            JsonNode jsonNode = objectMapper.readTree(data);
+            operationHandler.handle(jsonNode);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to parse subsidiary SSE event: " + data, e);
         }
     }
 
@@ -440,77 +422,12 @@ public class QuarkusStreamableHttpMcpTransport implements McpTransport {
                 });
     }
 
-    /**
-     * Creates a Handler that buffers incoming data and splits it into
-     * individual SSE events separated by {@code \r\n\r\n} or {@code \n\n},
-     * passing each complete raw event string to the provided consumer.
-     */
-    private Handler<Buffer> createSseBufferHandler(Consumer<String> eventConsumer) {
-        return new Handler<>() {
-            private StringBuffer sb = new StringBuffer();
-
-            @Override
-            public void handle(Buffer event) {
-                sb.append(event.toString());
-                String str = sb.toString();
-                while (true) {
-                    int sepIdx;
-                    int sepLen;
-                    int crlfIdx = str.indexOf("\r\n\r\n");
-                    int lfIdx = str.indexOf("\n\n");
-                    if (crlfIdx >= 0 && (lfIdx < 0 || crlfIdx <= lfIdx)) {
-                        sepIdx = crlfIdx;
-                        sepLen = 4;
-                    } else if (lfIdx >= 0) {
-                        sepIdx = lfIdx;
-                        sepLen = 2;
-                    } else {
-                        break;
-                    }
-                    String eventStr = str.substring(0, sepIdx);
-                    str = str.substring(sepIdx + sepLen);
-                    sb = new StringBuffer(str);
-                    eventConsumer.accept(eventStr);
-                }
-            }
-        };
-    }
-
     private MultivaluedMap<String, Object> toMultivaluedMap(MultiMap multiMap) {
         MultivaluedTreeMap<String, Object> map = new MultivaluedTreeMap<>();
         multiMap.forEach((key, value) -> map.add(key, value));
         return map;
     }
 
-    // FIXME: this may be brittle, is there a more standard way to parse SSE events?
-    private SseEvent<String> parseSseEvent(String responseString) {
-        // use \\R to match any line ending because some servers use \r\n and some use \n
-        Map<String, String> entries = Arrays.stream(responseString.split("\\R"))
-                .collect(Collectors.toMap(s -> s.substring(0, s.indexOf(":")),
-                        s -> s.substring(s.indexOf(":") + 2)));
-        return new SseEvent<String>() {
-            @Override
-            public String id() {
-                return entries.get("id");
-            }
-
-            @Override
-            public String name() {
-                return entries.get("event");
-            }
-
-            @Override
-            public String comment() {
-                return null;
-            }
-
-            @Override
-            public String data() {
-                return entries.get("data");
-            }
-        };
-    }
-
     private boolean isExpectedStatusCode(int statusCode) {
         return statusCode >= 200 && statusCode < 300;
     }
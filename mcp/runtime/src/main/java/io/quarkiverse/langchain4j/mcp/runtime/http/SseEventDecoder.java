@@ -0,0 +1,192 @@
+package io.quarkiverse.langchain4j.mcp.runtime.http;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import org.jboss.resteasy.reactive.client.SseEvent;
+
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Decodes a stream of server-sent events incrementally, as the chunks of the response body are received.
+ * <p>
+ * Each chunk is scanned only once: complete lines are parsed in place, only the bytes of a line that is split across
+ * chunks are buffered, and the {@code data} lines of an event are accumulated as bytes and decoded once the event is
+ * complete. This keeps the cost linear in the size of the stream, even for large events split across many chunks.
+ * <p>
+ * Lines can be terminated by {@code \r\n}, {@code \n} or {@code \r}, an empty line dispatches the event, and lines
+ * starting with {@code :} are comments. The trailing event is discarded if the stream ends before its empty line.
+ * This class is not thread-safe, which is fine as Vert.x invokes the handler of a response sequentially.
+ */
+final class SseEventDecoder implements Handler<Buffer> {
+
+    /**
+     * The buffers grown larger than this by a large event are released once the event is processed, instead of being
+     * kept around for the next events
+     */
+    private static final int RETAINED_CAPACITY = 8 * 1024;
+
+    private final Consumer<? super Event> eventConsumer;
+
+    private byte[] line = new byte[256];
+    private int lineLength;
+    private boolean skipLineFeed;
+
+    private byte[] data = new byte[256];
+    private int dataLength;
+    private boolean hasData;
+    private String id;
+    private String name;
+    private Long retry;
+
+    SseEventDecoder(Consumer<? super Event> eventConsumer) {
+        this.eventConsumer = eventConsumer;
+    }
+
+    @Override
+    public void handle(Buffer buffer) {
+        byte[] bytes = buffer.getBytes();
+        int start = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            byte b = bytes[i];
+            if (b != '\n' && b != '\r') {
+                continue;
+            }
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (b == '\n' && i == start && lineLength == 0) {
+                    // second half of a \r\n split across chunks
+                    start = i + 1;
+                    continue;
+                }
+            }
+            if (lineLength == 0) {
+                processLine(bytes, start, i);
+            } else {
+                appendToLine(bytes, start, i);
+                processLine(line, 0, lineLength);
+                lineLength = 0;
+                if (line.length > RETAINED_CAPACITY) {
+                    line = new byte[256];
+                }
+            }
+            if (b == '\r') {
+                if (i + 1 < bytes.length) {
+                    if (bytes[i + 1] == '\n') {
+                        i++;
+                    }
+                } else {
+                    skipLineFeed = true;
+                }
+            }
+            start = i + 1;
+        }
+        if (start < bytes.length) {
+            skipLineFeed = false;
+            appendToLine(bytes, start, bytes.length);
+        }
+    }
+
+    private void appendToLine(byte[] bytes, int from, int to) {
+        int length = to - from;
+        if (lineLength + length > line.length) {
+            line = Arrays.copyOf(line, Math.max(line.length * 2, lineLength + length));
+        }
+        System.arraycopy(bytes, from, line, lineLength, length);
+        lineLength += length;
+    }
+
+    private void processLine(byte[] bytes, int from, int to) {
+        if (from == to) {
+            dispatch();
+            return;
+        }
+        if (bytes[from] == ':') {
+            // comment
+            return;
+        }
+        int colon = from;
+        while (colon < to && bytes[colon] != ':') {
+            colon++;
+        }
+        int valueStart = colon < to ? colon + 1 : to;
+        if (valueStart < to && bytes[valueStart] == ' ') {
+            valueStart++;
+        }
+        int fieldLength = colon - from;
+        if (is(bytes, from, fieldLength, "data")) {
+            appendData(bytes, valueStart, to);
+        } else if (is(bytes, from, fieldLength, "event")) {
+            name = string(bytes, valueStart, to);
+        } else if (is(bytes, from, fieldLength, "id")) {
+            id = string(bytes, valueStart, to);
+        } else if (is(bytes, from, fieldLength, "retry")) {
+            try {
+                retry = Long.parseLong(string(bytes, valueStart, to));
+            } catch (NumberFormatException e) {
+                // ignored, as mandated by the specification
+            }
+        }
+    }
+
+    private void appendData(byte[] bytes, int from, int to) {
+        int length = to - from + (hasData ? 1 : 0);
+        if (dataLength + length > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, dataLength + length));
+        }
+        if (hasData) {
+            data[dataLength++] = '\n';
+        }
+        System.arraycopy(bytes, from, data, dataLength, to - from);
+        dataLength += to - from;
+        hasData = true;
+    }
+
+    private void dispatch() {
+        if (!hasData && id == null && name == null && retry == null) {
+            return;
+        }
+        Event event = new Event(id, name, hasData ? new String(data, 0, dataLength, StandardCharsets.UTF_8) : null,
+                retry);
+        if (data.length > RETAINED_CAPACITY) {
+            data = new byte[256];
+        }
+        dataLength = 0;
+        hasData = false;
+        id = null;
+        name = null;
+        retry = null;
+        eventConsumer.accept(event);
+    }
+
+    private static boolean is(byte[] bytes, int from, int length, String field) {
+        if (length != field.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (bytes[from + i] != field.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String string(byte[] bytes, int from, int to) {
+        return new String(bytes, from, to - from, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A decoded server-sent event.
+     *
+     * @param retry the reconnection time requested by the server, in milliseconds, or {@code null}
+     */
+    record Event(String id, String name, String data, Long retry) implements SseEvent<String> {
+
+        @Override
+        public String comment() {
+            return null;
+        }
+    }
+}
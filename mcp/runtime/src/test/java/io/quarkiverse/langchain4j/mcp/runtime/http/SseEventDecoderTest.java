@@ -0,0 +1,95 @@
+package io.quarkiverse.langchain4j.mcp.runtime.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.buffer.Buffer;
+
+class SseEventDecoderTest {
+
+    @Test
+    void shouldDecodeEventsOfASingleChunk() {
+        List<SseEventDecoder.Event> events = decode(
+                "event: message\ndata: {\"id\":1}\n\nid: 42\ndata: {\"id\":2}\n\n");
+
+        assertEquals(2, events.size());
+        assertEquals("message", events.get(0).name());
+        assertEquals("{\"id\":1}", events.get(0).data());
+        assertNull(events.get(0).id());
+        assertNull(events.get(1).name());
+        assertEquals("42", events.get(1).id());
+        assertEquals("{\"id\":2}", events.get(1).data());
+    }
+
+    @Test
+    void shouldSupportAllLineTerminators() {
+        List<SseEventDecoder.Event> events = decode("data: a\r\n\r\ndata: b\r\rdata: c\n\n");
+
+        assertEquals(3, events.size());
+        assertEquals("a", events.get(0).data());
+        assertEquals("b", events.get(1).data());
+        assertEquals("c", events.get(2).data());
+    }
+
+    @Test
+    void shouldJoinDataLinesAndIgnoreComments() {
+        List<SseEventDecoder.Event> events = decode(": ping\n\ndata:first\ndata: second\nretry: 1500\n\n");
+
+        assertEquals(1, events.size());
+        assertEquals("first\nsecond", events.get(0).data());
+        assertEquals(1500L, events.get(0).retry());
+    }
+
+    @Test
+    void shouldDecodeEventsSplitAcrossChunks() {
+        String stream = "event: message\r\ndata: {\"text\":\"héllo\"}\r\n\r\ndata: done\r\n\r\n";
+        byte[] bytes = stream.getBytes(StandardCharsets.UTF_8);
+        // split the stream at every possible position, including between \r and \n and inside a multibyte character
+        for (int split = 0; split <= bytes.length; split++) {
+            List<SseEventDecoder.Event> events = new ArrayList<>();
+            SseEventDecoder decoder = new SseEventDecoder(events::add);
+            decoder.handle(Buffer.buffer().appendBytes(bytes, 0, split));
+            decoder.handle(Buffer.buffer().appendBytes(bytes, split, bytes.length - split));
+
+            assertEquals(2, events.size(), "split at " + split);
+            assertEquals("message", events.get(0).name());
+            assertEquals("{\"text\":\"héllo\"}", events.get(0).data());
+            assertEquals("done", events.get(1).data());
+        }
+    }
+
+    @Test
+    void shouldDecodeLargeEventsReceivedInSmallChunks() {
+        String payload = "x".repeat(1024 * 1024);
+        byte[] bytes = ("data: " + payload + "\n\n").getBytes(StandardCharsets.UTF_8);
+        List<SseEventDecoder.Event> events = new ArrayList<>();
+        SseEventDecoder decoder = new SseEventDecoder(events::add);
+        for (int i = 0; i < bytes.length; i += 1000) {
+            decoder.handle(Buffer.buffer().appendBytes(bytes, i, Math.min(1000, bytes.length - i)));
+        }
+
+        assertEquals(1, events.size());
+        assertEquals(payload, events.get(0).data());
+    }
+
+    @Test
+    void shouldDiscardIncompleteTrailingEvent() {
+        List<SseEventDecoder.Event> events = decode("data: complete\n\ndata: incomplete\n");
+
+        assertEquals(1, events.size());
+        assertTrue(events.get(0).data().startsWith("complete"));
+    }
+
+    private static List<SseEventDecoder.Event> decode(String stream) {
+        List<SseEventDecoder.Event> events = new ArrayList<>();
+        new SseEventDecoder(events::add).handle(Buffer.buffer(stream));
+        return events;
+    }
+}
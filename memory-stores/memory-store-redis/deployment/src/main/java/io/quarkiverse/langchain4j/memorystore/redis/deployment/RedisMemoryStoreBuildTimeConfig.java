@@ -6,6 +6,7 @@ import java.util.Optional;
 
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
 
 @ConfigRoot(phase = BUILD_TIME)
 @ConfigMapping(prefix = "quarkus.langchain4j.memorystore.redis")
@@ -16,4 +17,23 @@ public interface RedisMemoryStoreBuildTimeConfig {
      * If unspecified, it will use the default Redis client.
      */
     Optional<String> clientName();
+
+    /**
+     * How the messages of a conversation are stored in Redis.
+     */
+    @WithDefault("value")
+    Storage storage();
+
+    enum Storage {
+        /**
+         * The whole conversation is stored as a single JSON document, which is rewritten every time the conversation
+         * is updated.
+         */
+        VALUE,
+        /**
+         * Each message is stored as an element of a Redis list, only the new messages are pushed when the conversation
+         * is updated and the list can be trimmed and expired by Redis.
+         */
+        LIST
+    }
 }
@@ -9,6 +9,7 @@ import org.jboss.jandex.DotName;
 
 import dev.langchain4j.store.memory.chat.ChatMemoryStore;
 import io.quarkiverse.langchain4j.memorystore.RedisChatMemoryStore;
+import io.quarkiverse.langchain4j.memorystore.RedisListChatMemoryStore;
 import io.quarkiverse.langchain4j.memorystore.redis.runtime.RedisMemoryStoreRecorder;
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
@@ -25,6 +26,7 @@ import io.quarkus.redis.runtime.client.config.RedisConfig;
 class RedisMemoryStoreProcessor {
 
     public static final DotName REDIS_CHAT_MEMORY_STORE = DotName.createSimple(RedisChatMemoryStore.class);
+    public static final DotName REDIS_LIST_CHAT_MEMORY_STORE = DotName.createSimple(RedisListChatMemoryStore.class);
     private static final String FEATURE = "langchain4j-memory-store-redis";
 
     @BuildStep
@@ -53,14 +55,22 @@ class RedisMemoryStoreProcessor {
                     .add("value", clientName)
                     .build();
         }
-        beanProducer.produce(SyntheticBeanBuildItem
-                .configure(REDIS_CHAT_MEMORY_STORE)
+        SyntheticBeanBuildItem.ExtendedBeanConfigurator configurator;
+        if (buildTimeConfig.storage() == RedisMemoryStoreBuildTimeConfig.Storage.LIST) {
+            configurator = SyntheticBeanBuildItem
+                    .configure(REDIS_LIST_CHAT_MEMORY_STORE)
+                    .createWith(recorder.listChatMemoryStoreFunction(clientName));
+        } else {
+            configurator = SyntheticBeanBuildItem
+                    .configure(REDIS_CHAT_MEMORY_STORE)
+                    .createWith(recorder.chatMemoryStoreFunction(clientName));
+        }
+        beanProducer.produce(configurator
                 .types(ClassType.create(ChatMemoryStore.class))
                 .setRuntimeInit()
                 .scope(ApplicationScoped.class)
                 .addInjectionPoint(ClassType.create(DotName.createSimple(RedisDataSource.class)),
                         redisClientQualifier)
-                .createWith(recorder.chatMemoryStoreFunction(clientName))
                 .done());
     }
 
@@ -0,0 +1,116 @@
+package io.quarkiverse.langchain4j.memorystore.redis.test;
+
+import static dev.langchain4j.data.message.ChatMessageType.AI;
+import static dev.langchain4j.data.message.ChatMessageType.SYSTEM;
+import static dev.langchain4j.data.message.ChatMessageType.USER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import io.quarkiverse.langchain4j.memorystore.RedisListChatMemoryStore;
+import io.quarkiverse.langchain4j.runtime.LangChain4jUtil;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class RedisListChatMemoryStoreTest {
+
+    private static final String MEMORY_ID = "list-memory";
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(
+                    () -> ShrinkWrap.create(JavaArchive.class))
+            .overrideConfigKey("quarkus.langchain4j.memorystore.redis.storage", "list")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.memorystore.redis.max-messages", "4")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.memorystore.redis.ttl", "1h");
+
+    @Inject
+    ChatMemoryStore chatMemoryStore;
+
+    @Inject
+    RedisDataSource redisDataSource;
+
+    @AfterEach
+    void cleanUp() {
+        chatMemoryStore.deleteMessages(MEMORY_ID);
+    }
+
+    @Test
+    void should_only_append_new_messages() {
+        assertThat(chatMemoryStore).isInstanceOf(RedisListChatMemoryStore.class);
+
+        List<ChatMessage> messages = new ArrayList<>();
+        messages.add(SystemMessage.from("You are a helpful assistant"));
+        messages.add(UserMessage.from("Hello, my name is Klaus"));
+        messages.add(AiMessage.from("Nice to meet you Klaus"));
+        chatMemoryStore.updateMessages(MEMORY_ID, messages);
+
+        String first = redisDataSource.list(String.class).lindex(MEMORY_ID, 0);
+        assertThat(redisDataSource.list(String.class).llen(MEMORY_ID)).isEqualTo(2);
+        assertThat(redisDataSource.key().ttl(MEMORY_ID)).isPositive();
+
+        // the messages already stored are kept as is
+        messages.add(UserMessage.from("What is my name?"));
+        chatMemoryStore.updateMessages(MEMORY_ID, messages);
+        assertThat(redisDataSource.list(String.class).llen(MEMORY_ID)).isEqualTo(3);
+        assertThat(redisDataSource.list(String.class).lindex(MEMORY_ID, 0)).isEqualTo(first);
+
+        assertThat(chatMemoryStore.getMessages(MEMORY_ID))
+                .extracting(ChatMessage::type, LangChain4jUtil::chatMessageToText)
+                .containsExactly(tuple(SYSTEM, "You are a helpful assistant"),
+                        tuple(USER, "Hello, my name is Klaus"),
+                        tuple(AI, "Nice to meet you Klaus"),
+                        tuple(USER, "What is my name?"));
+    }
+
+    @Test
+    void should_trim_oldest_messages_but_keep_system_message() {
+        chatMemoryStore.updateMessages(MEMORY_ID, List.of(SystemMessage.from("You are a helpful assistant")));
+        for (int i = 0; i < 3; i++) {
+            List<ChatMessage> messages = new ArrayList<>(chatMemoryStore.getMessages(MEMORY_ID));
+            messages.add(UserMessage.from("question " + i));
+            messages.add(AiMessage.from("answer " + i));
+            chatMemoryStore.updateMessages(MEMORY_ID, messages);
+        }
+
+        // max-messages is 4, including the system message
+        assertThat(redisDataSource.list(String.class).llen(MEMORY_ID)).isEqualTo(3);
+        assertThat(chatMemoryStore.getMessages(MEMORY_ID))
+                .extracting(ChatMessage::type, LangChain4jUtil::chatMessageToText)
+                .containsExactly(tuple(SYSTEM, "You are a helpful assistant"),
+                        tuple(AI, "answer 1"),
+                        tuple(USER, "question 2"),
+                        tuple(AI, "answer 2"));
+    }
+
+    @Test
+    void should_rewrite_conversation_when_history_changes() {
+        chatMemoryStore.updateMessages(MEMORY_ID,
+                List.of(UserMessage.from("first question"), AiMessage.from("first answer")));
+        chatMemoryStore.updateMessages(MEMORY_ID,
+                List.of(SystemMessage.from("Be concise"), UserMessage.from("another question")));
+
+        assertThat(chatMemoryStore.getMessages(MEMORY_ID))
+                .extracting(ChatMessage::type, LangChain4jUtil::chatMessageToText)
+                .containsExactly(tuple(SYSTEM, "Be concise"), tuple(USER, "another question"));
+
+        chatMemoryStore.deleteMessages(MEMORY_ID);
+        assertThat(chatMemoryStore.getMessages(MEMORY_ID)).isEmpty();
+        assertThat(redisDataSource.key().exists(MEMORY_ID, MEMORY_ID + ":system")).isEqualTo(0);
+    }
+}
@@ -0,0 +1,272 @@
+package io.quarkiverse.langchain4j.memorystore;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.memory.chat.MessageWindowChatMemory;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import io.quarkiverse.langchain4j.IncrementalChatMemoryStore;
+import io.quarkiverse.langchain4j.QuarkusJsonCodecFactory;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.redis.datasource.keys.KeyCommands;
+import io.quarkus.redis.datasource.list.ListCommands;
+import io.quarkus.redis.datasource.transactions.OptimisticLockingTransactionResult;
+import io.quarkus.redis.datasource.transactions.TransactionalRedisDataSource;
+import io.quarkus.redis.datasource.value.ValueCommands;
+
+/**
+ * A {@link ChatMemoryStore} that keeps each message of a conversation as a separate element of a Redis list, instead
+ * of a single JSON document holding the whole conversation like {@link RedisChatMemoryStore} does.
+ * <p>
+ * When the memory is updated, the messages already present in the list are left untouched: the messages evicted from
+ * the beginning of the conversation are trimmed and only the new messages are pushed. The system message, which the
+ * chat memories keep at the first position, is stored under a separate key so that the list can be trimmed server-side
+ * to the same number of messages as a {@link MessageWindowChatMemory}.
+ * <p>
+ * As an {@link IncrementalChatMemoryStore}, the new messages of an invocation are pushed without reading the stored
+ * conversation back.
+ */
+public class RedisListChatMemoryStore implements IncrementalChatMemoryStore {
+
+    private static final String SYSTEM_MESSAGE_KEY_SUFFIX = ":system";
+
+    /**
+     * How many times an update is retried when the conversation is modified concurrently
+     */
+    private static final int MAX_UPDATE_ATTEMPTS = 10;
+
+    private final RedisDataSource redisDataSource;
+    private final ListCommands<String, String> listCommands;
+    private final ValueCommands<String, String> valueCommands;
+    private final KeyCommands<String> keyCommands;
+    private final Duration ttl;
+    private final int maxMessages;
+
+    /**
+     * @param ttl the duration after which an inactive conversation expires, or {@code null} if conversations never
+     *        expire
+     * @param maxMessages the maximum number of messages (including the system message) to keep for a conversation, or
+     *        a negative value if the conversations should not be trimmed
+     */
+    public RedisListChatMemoryStore(RedisDataSource redisDataSource, Duration ttl, int maxMessages) {
+        this.redisDataSource = redisDataSource;
+        this.listCommands = redisDataSource.list(String.class);
+        this.valueCommands = redisDataSource.value(String.class);
+        this.keyCommands = redisDataSource.key(String.class);
+        this.ttl = ttl;
+        this.maxMessages = maxMessages;
+    }
+
+    @Override
+    public void deleteMessages(Object memoryId) {
+        String key = memoryId.toString();
+        keyCommands.del(key, systemMessageKey(key));
+    }
+
+    @Override
+    public List<ChatMessage> getMessages(Object memoryId) {
+        String key = memoryId.toString();
+        String systemMessage = valueCommands.get(systemMessageKey(key));
+        List<String> entries = listCommands.lrange(key, 0, -1);
+        if (systemMessage == null && entries.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<ChatMessage> messages = new ArrayList<>(entries.size() + 1);
+        if (systemMessage != null) {
+            messages.add(fromJson(systemMessage));
+        }
+        boolean leading = true;
+        for (String entry : entries) {
+            ChatMessage message = fromJson(entry);
+            // the server-side trimming may have evicted the AI message that requested the leading tool results,
+            // which a MessageWindowChatMemory would have evicted along with it
+            if (leading && message instanceof ToolExecutionResultMessage) {
+                continue;
+            }
+            leading = false;
+            messages.add(message);
+        }
+        return messages;
+    }
+
+    @Override
+    public void updateMessages(Object memoryId, List<ChatMessage> messages) {
+        String key = memoryId.toString();
+        String systemKey = systemMessageKey(key);
+        String systemMessage = null;
+        List<String> entries = new ArrayList<>(messages.size());
+        for (ChatMessage message : messages) {
+            if (message instanceof SystemMessage) {
+                systemMessage = toJson(message);
+            } else {
+                entries.add(toJson(message));
+            }
+        }
+        String newSystemMessage = systemMessage;
+
+        for (int attempt = 0; attempt < MAX_UPDATE_ATTEMPTS; attempt++) {
+            OptimisticLockingTransactionResult<Stored> result = redisDataSource.withTransaction(
+                    ds -> new Stored(ds.list(String.class).lrange(key, 0, -1), ds.value(String.class).get(systemKey)),
+                    (stored, tx) -> write(tx, key, systemKey, stored, entries, newSystemMessage),
+                    key, systemKey);
+            if (!result.discarded()) {
+                return;
+            }
+        }
+        throw new IllegalStateException("Unable to update the messages of memory '" + memoryId + "': the conversation "
+                + "was modified concurrently during " + MAX_UPDATE_ATTEMPTS + " attempts");
+    }
+
+    @Override
+    public void appendMessages(Object memoryId, List<ChatMessage> messages, int retained) {
+        String key = memoryId.toString();
+        String systemKey = systemMessageKey(key);
+        List<String> entries = new ArrayList<>(messages.size());
+        for (ChatMessage message : messages) {
+            entries.add(toJson(message));
+        }
+        // maxMessages counts the system message, retained does not, so the system message is looked up under the
+        // same optimistic lock as the one of updateMessages to trim both write paths to the same number of entries
+        for (int attempt = 0; attempt < MAX_UPDATE_ATTEMPTS; attempt++) {
+            OptimisticLockingTransactionResult<Boolean> result = redisDataSource.withTransaction(
+                    ds -> ds.key(String.class).exists(systemKey),
+                    (hasSystemMessage, tx) -> append(tx, key, systemKey, entries,
+                            maxEntries(retained, hasSystemMessage)),
+                    systemKey);
+            if (!result.discarded()) {
+                return;
+            }
+        }
+        throw new IllegalStateException("Unable to append messages to memory '" + memoryId + "': the system message "
+                + "was modified concurrently during " + MAX_UPDATE_ATTEMPTS + " attempts");
+    }
+
+    private int maxEntries(int retained, boolean hasSystemMessage) {
+        if (maxMessages <= 0) {
+            return retained;
+        }
+        return Math.min(retained, hasSystemMessage ? Math.max(maxMessages - 1, 1) : maxMessages);
+    }
+
+    private void append(TransactionalRedisDataSource tx, String key, String systemKey, List<String> entries,
+            int maxEntries) {
+        if (maxEntries <= 0) {
+            tx.key(String.class).del(key);
+        } else {
+            if (!entries.isEmpty()) {
+                tx.list(String.class).rpush(key, entries.toArray(new String[0]));
+            }
+            tx.list(String.class).ltrim(key, -maxEntries, -1);
+        }
+        if (ttl != null) {
+            tx.key(String.class).expire(key, ttl);
+            tx.key(String.class).expire(systemKey, ttl);
+        }
+    }
+
+    private void write(TransactionalRedisDataSource tx, String key, String systemKey, Stored stored,
+            List<String> entries, String systemMessage) {
+        int evicted = evictedCount(stored.entries(), entries);
+        if (evicted == stored.entries().size()) {
+            // nothing in common with the stored conversation, rewrite it
+            if (!stored.entries().isEmpty()) {
+                tx.key(String.class).del(key);
+            }
+            if (!entries.isEmpty()) {
+                tx.list(String.class).rpush(key, entries.toArray(new String[0]));
+            }
+        } else {
+            if (evicted > 0) {
+                tx.list(String.class).ltrim(key, evicted, -1);
+            }
+            int kept = stored.entries().size() - evicted;
+            if (kept < entries.size()) {
+                tx.list(String.class).rpush(key, entries.subList(kept, entries.size()).toArray(new String[0]));
+            }
+        }
+        if (maxMessages > 0 && !entries.isEmpty()) {
+            int maxEntries = systemMessage != null ? maxMessages - 1 : maxMessages;
+            tx.list(String.class).ltrim(key, -Math.max(maxEntries, 1), -1);
+        }
+
+        if (systemMessage == null) {
+            if (stored.systemMessage() != null) {
+                tx.key(String.class).del(systemKey);
+            }
+        } else if (!systemMessage.equals(stored.systemMessage())) {
+            tx.value(String.class).set(systemKey, systemMessage);
+        }
+
+        if (ttl != null) {
+            if (!entries.isEmpty()) {
+                tx.key(String.class).expire(key, ttl);
+            }
+            if (systemMessage != null) {
+                tx.key(String.class).expire(systemKey, ttl);
+            }
+        }
+    }
+
+    /**
+     * Computes how many entries have to be removed from the beginning of the stored list so that the remaining ones are
+     * the beginning of the new list.
+     *
+     * @return the number of stored entries if the lists have nothing in common
+     */
+    static int evictedCount(List<String> stored, List<String> entries) {
+        if (entries.isEmpty()) {
+            return stored.size();
+        }
+        String first = entries.get(0);
+        for (int evicted = 0; evicted < stored.size(); evicted++) {
+            if (stored.get(evicted).equals(first) && isPrefix(stored, evicted, entries)) {
+                return evicted;
+            }
+        }
+        return stored.size();
+    }
+
+    private static boolean isPrefix(List<String> stored, int from, List<String> entries) {
+        if (stored.size() - from > entries.size()) {
+            return false;
+        }
+        for (int i = from; i < stored.size(); i++) {
+            if (!stored.get(i).equals(entries.get(i - from))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String systemMessageKey(String key) {
+        return key + SYSTEM_MESSAGE_KEY_SUFFIX;
+    }
+
+    private static String toJson(ChatMessage message) {
+        try {
+            return QuarkusJsonCodecFactory.ObjectMapperHolder.MAPPER.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ChatMessage fromJson(String json) {
+        try {
+            return QuarkusJsonCodecFactory.ObjectMapperHolder.MAPPER.readValue(json, ChatMessage.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Stored(List<String> entries, String systemMessage) {
+    }
+}
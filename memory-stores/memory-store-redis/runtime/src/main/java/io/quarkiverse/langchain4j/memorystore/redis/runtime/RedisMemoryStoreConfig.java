@@ -0,0 +1,34 @@
+package io.quarkiverse.langchain4j.memorystore.redis.runtime;
+
+import static io.quarkus.runtime.annotations.ConfigPhase.RUN_TIME;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+
+@ConfigRoot(phase = RUN_TIME)
+@ConfigMapping(prefix = "quarkus.langchain4j.memorystore.redis")
+public interface RedisMemoryStoreConfig {
+
+    /**
+     * The duration after which the messages of an inactive conversation expire.
+     * Every update of the conversation resets the expiration.
+     * If unspecified, the messages never expire.
+     * <p>
+     * Only used when {@code quarkus.langchain4j.memorystore.redis.storage} is set to {@code list}.
+     */
+    Optional<Duration> ttl();
+
+    /**
+     * The maximum number of messages (including the system message) kept in Redis for a conversation, the oldest
+     * messages being trimmed by Redis itself. This should match the limit of the chat memory, for example
+     * {@code quarkus.langchain4j.chat-memory.memory-window.max-messages}.
+     * If unspecified, the conversations are not trimmed.
+     * <p>
+     * Only used when {@code quarkus.langchain4j.memorystore.redis.storage} is set to {@code list}.
+     */
+    OptionalInt maxMessages();
+}
@@ -4,28 +4,50 @@ import java.util.function.Function;
 
 import jakarta.enterprise.inject.Default;
 
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
 import io.quarkiverse.langchain4j.memorystore.RedisChatMemoryStore;
+import io.quarkiverse.langchain4j.memorystore.RedisListChatMemoryStore;
 import io.quarkus.arc.SyntheticCreationalContext;
 import io.quarkus.redis.client.RedisClientName;
 import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
 public class RedisMemoryStoreRecorder {
+    private final RuntimeValue<RedisMemoryStoreConfig> config;
+
+    public RedisMemoryStoreRecorder(RuntimeValue<RedisMemoryStoreConfig> config) {
+        this.config = config;
+    }
+
     public Function<SyntheticCreationalContext<RedisChatMemoryStore>, RedisChatMemoryStore> chatMemoryStoreFunction(
             String clientName) {
         return new Function<>() {
             @Override
             public RedisChatMemoryStore apply(SyntheticCreationalContext<RedisChatMemoryStore> context) {
-                RedisDataSource dataSource;
-                if (clientName == null) {
-                    dataSource = context.getInjectedReference(RedisDataSource.class, new Default.Literal());
-                } else {
-                    dataSource = context.getInjectedReference(RedisDataSource.class,
-                            new RedisClientName.Literal(clientName));
-                }
-                return new RedisChatMemoryStore(dataSource);
+                return new RedisChatMemoryStore(dataSource(context, clientName));
             }
         };
     }
+
+    public Function<SyntheticCreationalContext<RedisListChatMemoryStore>, RedisListChatMemoryStore> listChatMemoryStoreFunction(
+            String clientName) {
+        return new Function<>() {
+            @Override
+            public RedisListChatMemoryStore apply(SyntheticCreationalContext<RedisListChatMemoryStore> context) {
+                RedisMemoryStoreConfig storeConfig = config.getValue();
+                return new RedisListChatMemoryStore(dataSource(context, clientName), storeConfig.ttl().orElse(null),
+                        storeConfig.maxMessages().orElse(-1));
+            }
+        };
+    }
+
+    private static RedisDataSource dataSource(SyntheticCreationalContext<? extends ChatMemoryStore> context,
+            String clientName) {
+        if (clientName == null) {
+            return context.getInjectedReference(RedisDataSource.class, new Default.Literal());
+        }
+        return context.getInjectedReference(RedisDataSource.class, new RedisClientName.Literal(clientName));
+    }
 }
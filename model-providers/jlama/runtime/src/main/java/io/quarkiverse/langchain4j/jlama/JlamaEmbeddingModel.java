@@ -1,9 +1,13 @@
 package io.quarkiverse.langchain4j.jlama;
 
 import java.nio.file.Path;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.github.tjake.jlama.model.AbstractModel;
 import com.github.tjake.jlama.model.ModelSupport;
@@ -15,10 +19,13 @@ import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.internal.RetryUtils;
 import dev.langchain4j.model.embedding.DimensionAwareEmbeddingModel;
 import dev.langchain4j.model.output.Response;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 
 public class JlamaEmbeddingModel extends DimensionAwareEmbeddingModel {
     private final BertModel model;
     private final Generator.PoolingType poolingType;
+    private final int parallelism;
+    private final Executor executor;
 
     public JlamaEmbeddingModel(JlamaEmbeddingModelBuilder builder) {
 
@@ -46,6 +53,30 @@ public class JlamaEmbeddingModel extends DimensionAwareEmbeddingModel {
         this.dimension = model.getConfig().embeddingLength;
 
         this.poolingType = builder.poolingType == null ? Generator.PoolingType.MODEL : builder.poolingType;
+        this.parallelism = parallelism(builder.parallelism, builder.threadCount);
+        this.executor = Infrastructure.getDefaultWorkerPool();
+    }
+
+    JlamaEmbeddingModel(BertModel model, Generator.PoolingType poolingType, int parallelism, Executor executor) {
+        this.model = model;
+        this.poolingType = poolingType;
+        this.parallelism = parallelism;
+        this.executor = executor;
+    }
+
+    /**
+     * Each forward pass already runs its computations on the {@code threadCount} threads of Jlama, so by default the
+     * segments are only embedded concurrently when these threads leave some cores idle. When {@code threadCount} is not
+     * set, Jlama uses all the cores and the segments are embedded one after the other.
+     */
+    private static int parallelism(Integer parallelism, Integer threadCount) {
+        if (parallelism != null) {
+            return Math.max(1, parallelism);
+        }
+        if (threadCount == null || threadCount <= 0) {
+            return 1;
+        }
+        return Math.max(1, Runtime.getRuntime().availableProcessors() / threadCount);
     }
 
     public static JlamaEmbeddingModelBuilder builder() {
@@ -54,13 +85,52 @@ public class JlamaEmbeddingModel extends DimensionAwareEmbeddingModel {
 
     @Override
     public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
-        List<Embedding> embeddings = new ArrayList<>();
+        Embedding[] embeddings = new Embedding[textSegments.size()];
+        int workers = Math.min(parallelism, textSegments.size());
+        if (workers <= 1) {
+            for (int i = 0; i < embeddings.length; i++) {
+                embeddings[i] = embed(textSegments.get(i));
+            }
+            return Response.from(Arrays.asList(embeddings));
+        }
 
-        textSegments.forEach(textSegment -> {
-            embeddings.add(Embedding.from(model.embed(textSegment.text(), poolingType)));
-        });
+        // The segments are spread over the calling thread and workers - 1 tasks of the executor, each taking the next
+        // segment not embedded yet. Concurrent calls of BertModel.embed are safe: each call works on its own ephemeral
+        // KV buffer and only reads the shared weights, the same way Jlama serves concurrent requests with one model.
+        AtomicInteger next = new AtomicInteger();
+        Runnable worker = () -> {
+            int i;
+            while ((i = next.getAndIncrement()) < embeddings.length) {
+                try {
+                    embeddings[i] = embed(textSegments.get(i));
+                } catch (RuntimeException | Error e) {
+                    // stop the other workers
+                    next.set(embeddings.length);
+                    throw e;
+                }
+            }
+        };
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[workers - 1];
+        for (int i = 0; i < tasks.length; i++) {
+            tasks[i] = CompletableFuture.runAsync(worker, executor);
+        }
+        worker.run();
+        try {
+            CompletableFuture.allOf(tasks).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+        return Response.from(Arrays.asList(embeddings));
+    }
 
-        return Response.from(embeddings);
+    private Embedding embed(TextSegment textSegment) {
+        return Embedding.from(model.embed(textSegment.text(), poolingType));
     }
 
     @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
@@ -70,6 +140,7 @@ public class JlamaEmbeddingModel extends DimensionAwareEmbeddingModel {
         private String modelName;
         private String authToken;
         private Integer threadCount;
+        private Integer parallelism;
         private Path workingDirectory;
         private Boolean quantizeModelAtRuntime;
         private Generator.PoolingType poolingType;
@@ -94,6 +165,15 @@ public class JlamaEmbeddingModel extends DimensionAwareEmbeddingModel {
             return this;
         }
 
+        /**
+         * The maximum number of segments embedded concurrently by {@code embedAll}. Defaults to the number of cores
+         * divided by {@code threadCount}, or to {@code 1} when {@code threadCount} is not set.
+         */
+        public JlamaEmbeddingModelBuilder parallelism(Integer parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
         public JlamaEmbeddingModelBuilder workingDirectory(Path workingDirectory) {
             this.workingDirectory = workingDirectory;
             return this;
@@ -0,0 +1,84 @@
+package io.quarkiverse.langchain4j.jlama;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.tjake.jlama.model.bert.BertModel;
+import com.github.tjake.jlama.model.functions.Generator;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+
+class JlamaEmbeddingModelTest {
+
+    private BertModel bertModel;
+    private ExecutorService executor;
+    private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    void setUp() {
+        bertModel = mock(BertModel.class);
+        // each segment is embedded as a single value: its index in the segments
+        doAnswer(invocation -> {
+            threads.add(Thread.currentThread());
+            return new float[] { Float.parseFloat(invocation.getArgument(0)) };
+        }).when(bertModel).embed(anyString(), any());
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void keepsOrderOfConcurrentlyEmbeddedSegments() {
+        JlamaEmbeddingModel model = new JlamaEmbeddingModel(bertModel, Generator.PoolingType.MODEL, 4, executor);
+
+        List<Embedding> embeddings = model.embedAll(segments(100)).content();
+
+        assertThat(embeddings).hasSize(100);
+        for (int i = 0; i < 100; i++) {
+            assertThat(embeddings.get(i).vector()).containsExactly(i);
+        }
+    }
+
+    @Test
+    void embedsOnTheCallingThreadWithoutParallelism() {
+        JlamaEmbeddingModel model = new JlamaEmbeddingModel(bertModel, Generator.PoolingType.MODEL, 1, executor);
+
+        assertThat(model.embedAll(segments(10)).content()).hasSize(10);
+        assertThat(threads).containsExactly(Thread.currentThread());
+    }
+
+    @Test
+    void reportsFailureOfConcurrentlyEmbeddedSegment() {
+        doThrow(new IllegalStateException("boom")).when(bertModel).embed(eq("42"), any());
+        JlamaEmbeddingModel model = new JlamaEmbeddingModel(bertModel, Generator.PoolingType.MODEL, 4, executor);
+
+        assertThatThrownBy(() -> model.embedAll(segments(100)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("boom");
+    }
+
+    private static List<TextSegment> segments(int count) {
+        return IntStream.range(0, count).mapToObj(i -> TextSegment.from(String.valueOf(i))).toList();
+    }
+}
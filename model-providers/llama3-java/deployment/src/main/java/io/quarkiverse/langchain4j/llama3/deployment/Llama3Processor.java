@@ -53,6 +53,7 @@ import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.NativeImageFeatureBuildItem;
 import io.quarkus.deployment.builditem.ServiceStartBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageEnableModule;
 import io.quarkus.deployment.builditem.nativeimage.RuntimeInitializedPackageBuildItem;
 import io.quarkus.deployment.console.ConsoleInstalledBuildItem;
@@ -143,6 +144,12 @@ public class Llama3Processor {
         }
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    public void cleanUp(Llama3Recorder recorder, ShutdownContextBuildItem shutdown) {
+        recorder.cleanUp(shutdown);
+    }
+
     @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
     @Produce(ServiceStartBuildItem.class)
     @BuildStep
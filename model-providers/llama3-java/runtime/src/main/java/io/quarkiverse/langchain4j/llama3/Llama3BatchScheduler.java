@@ -0,0 +1,296 @@
+package io.quarkiverse.langchain4j.llama3;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.IntConsumer;
+
+import org.jboss.logging.Logger;
+
+import io.quarkiverse.langchain4j.llama3.copy.Llama;
+import io.quarkiverse.langchain4j.llama3.copy.Sampler;
+
+/**
+ * Generates the tokens of concurrent requests together (continuous batching).
+ * <p>
+ * Running each request in its own forward loop means that, with N concurrent requests, all the weights are streamed
+ * through memory N times per generated token. Instead, a single scheduler thread multiplexes the active sequences: at
+ * every step, the sequences that are generating run a single forward pass together (see
+ * {@link Llama#forwardBatch(Llama, Llama.State, Llama.State[], int[], int[])}), while the sequences that are still
+ * ingesting their prompt ingest their next chunk of prompt tokens.
+ * New requests are admitted and finished ones are retired at token boundaries, so a long generation never delays the
+ * start of another request by more than a step.
+ * <p>
+ * The chat model and the streaming chat model of a configuration share the same scheduler, so that their requests are
+ * batched together. The schedulers are stopped by {@link #closeAll()} when the application shuts down.
+ */
+public final class Llama3BatchScheduler {
+
+    private static final Logger log = Logger.getLogger(Llama3BatchScheduler.class);
+
+    private static final ConcurrentMap<Key, Llama3BatchScheduler> SCHEDULERS = new ConcurrentHashMap<>();
+
+    private final Llama model;
+    private final int maxSequences;
+    private final Llama.State batch;
+    private final LinkedBlockingQueue<Sequence> pending = new LinkedBlockingQueue<>();
+    private final List<Sequence> active = new ArrayList<>();
+    private final Thread thread;
+    private volatile boolean closed;
+
+    private Llama3BatchScheduler(Llama model, int maxSequences) {
+        this.model = model;
+        this.maxSequences = maxSequences;
+        this.batch = model.createBatchState(maxSequences);
+        this.thread = new Thread(this::run, "llama3-batch-scheduler");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Creates a scheduler that is not shared, see {@link #getOrCreate(String, String, Llama, int)}.
+     *
+     * @return the scheduler, or {@code null} if requests should not be batched together
+     */
+    static Llama3BatchScheduler create(Llama model, int maxSequences) {
+        if (maxSequences <= 1) {
+            return null;
+        }
+        return new Llama3BatchScheduler(model, maxSequences);
+    }
+
+    /**
+     * Returns the scheduler shared by the models loaded from the same file with the same context length, creating it
+     * if needed. The given model is only used when the scheduler is created, the states of the sequences created by
+     * the other models are compatible with it, as they have the same configuration.
+     *
+     * @return the scheduler, or {@code null} if requests should not be batched together
+     */
+    static Llama3BatchScheduler getOrCreate(String modelName, String quantization, Llama model, int maxSequences) {
+        if (maxSequences <= 1) {
+            return null;
+        }
+        Key key = new Key(modelName, quantization, model.configuration().contextLength, maxSequences);
+        return SCHEDULERS.computeIfAbsent(key, k -> new Llama3BatchScheduler(model, maxSequences));
+    }
+
+    /**
+     * Stops all the shared schedulers, failing the sequences they did not complete.
+     */
+    public static void closeAll() {
+        for (Llama3BatchScheduler scheduler : SCHEDULERS.values()) {
+            scheduler.close();
+        }
+        SCHEDULERS.clear();
+    }
+
+    /**
+     * Stops the scheduler thread, the sequences that are not complete yet fail.
+     */
+    void close() {
+        closed = true;
+        thread.interrupt();
+        try {
+            thread.join(10_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Schedules the generation of a sequence, the parameters have the same meaning as the ones of
+     * {@link Llama#generateTokens(Llama, Llama.State, int, List, Set, int, Sampler, boolean, IntConsumer)}.
+     * The {@code onTokenGenerated} callback is invoked on the scheduler thread.
+     *
+     * @return the generated tokens, including the stop token, if any
+     */
+    CompletableFuture<List<Integer>> submit(Llama.State state, int startPosition, List<Integer> promptTokens,
+            Set<Integer> stopTokens, int maxTokens, Sampler sampler, IntConsumer onTokenGenerated) {
+        int contextLength = model.configuration().contextLength;
+        int limit = maxTokens < 0 || contextLength < maxTokens ? contextLength : maxTokens;
+        Sequence sequence = new Sequence(state, startPosition, promptTokens, stopTokens, limit, sampler,
+                onTokenGenerated);
+        pending.add(sequence);
+        if (closed && pending.remove(sequence)) {
+            // the scheduler thread may already be gone
+            sequence.fail(new IllegalStateException("The Llama3 batch scheduler is closed"));
+        }
+        return sequence.result;
+    }
+
+    /**
+     * Blocking variant of {@link #submit(Llama.State, int, List, Set, int, Sampler, IntConsumer)}.
+     */
+    List<Integer> generateTokens(Llama.State state, int startPosition, List<Integer> promptTokens,
+            Set<Integer> stopTokens, int maxTokens, Sampler sampler, IntConsumer onTokenGenerated) {
+        try {
+            return submit(state, startPosition, promptTokens, stopTokens, maxTokens, sampler, onTokenGenerated).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw e;
+        }
+    }
+
+    private void run() {
+        while (!closed) {
+            try {
+                if (active.isEmpty()) {
+                    active.add(pending.take());
+                }
+                // admit new sequences at token boundaries
+                pending.drainTo(active, maxSequences - active.size());
+                step();
+                active.removeIf(Sequence::isDone);
+            } catch (InterruptedException e) {
+                if (!closed) {
+                    log.error("The Llama3 batch scheduler was interrupted", e);
+                }
+                break;
+            } catch (Throwable t) {
+                log.error("Unexpected failure of the Llama3 batch scheduler", t);
+                for (Sequence sequence : active) {
+                    sequence.fail(t);
+                }
+                active.clear();
+            }
+        }
+        closed = true;
+        IllegalStateException failure = new IllegalStateException("The Llama3 batch scheduler is closed");
+        pending.drainTo(active);
+        for (Sequence sequence : active) {
+            sequence.fail(failure);
+        }
+        active.clear();
+    }
+
+    private void step() {
+        List<Sequence> decoding = new ArrayList<>(active.size());
+        for (Sequence sequence : active) {
+            if (sequence.isIngesting()) {
+                try {
+                    sequence.ingestNextChunk();
+                } catch (Throwable t) {
+                    sequence.fail(t);
+                }
+            } else if (!sequence.isDone()) {
+                decoding.add(sequence);
+            }
+        }
+        if (decoding.isEmpty()) {
+            return;
+        }
+
+        int size = decoding.size();
+        Llama.State[] states = new Llama.State[size];
+        int[] tokens = new int[size];
+        int[] positions = new int[size];
+        for (int i = 0; i < size; i++) {
+            Sequence sequence = decoding.get(i);
+            states[i] = sequence.state;
+            tokens[i] = sequence.nextToken;
+            positions[i] = sequence.position;
+        }
+        try {
+            Llama.forwardBatch(model, batch, states, tokens, positions);
+        } catch (Throwable t) {
+            for (Sequence sequence : decoding) {
+                sequence.fail(t);
+            }
+            return;
+        }
+        for (Sequence sequence : decoding) {
+            sequence.position++;
+            sequence.emit(sequence.state.sampleToken(sequence.sampler));
+        }
+    }
+
+    private record Key(String modelName, String quantization, int contextLength, int maxSequences) {
+    }
+
+    private final class Sequence {
+
+        final Llama.State state;
+        final List<Integer> promptTokens;
+        final Set<Integer> stopTokens;
+        final int limit;
+        final Sampler sampler;
+        final IntConsumer onTokenGenerated;
+        final List<Integer> generatedTokens = new ArrayList<>();
+        final CompletableFuture<List<Integer>> result = new CompletableFuture<>();
+
+        /**
+         * The position of the next token to feed to the model
+         */
+        int position;
+        int promptIndex;
+        int nextToken;
+
+        Sequence(Llama.State state, int startPosition, List<Integer> promptTokens, Set<Integer> stopTokens, int limit,
+                Sampler sampler, IntConsumer onTokenGenerated) {
+            this.state = state;
+            this.position = startPosition;
+            this.promptTokens = promptTokens;
+            this.stopTokens = stopTokens;
+            this.limit = limit;
+            this.sampler = sampler;
+            this.onTokenGenerated = onTokenGenerated;
+        }
+
+        boolean isDone() {
+            return result.isDone();
+        }
+
+        boolean isIngesting() {
+            return !isDone() && promptIndex < promptTokens.size();
+        }
+
+        void ingestNextChunk() {
+            int nTokens = Math.min(limit - position, Math.min(promptTokens.size() - promptIndex, state.batchsize));
+            if (nTokens <= 0) {
+                // the context is full before the end of the prompt
+                result.complete(generatedTokens);
+                return;
+            }
+            int[] tokens = new int[nTokens];
+            for (int i = 0; i < nTokens; i++) {
+                tokens[i] = promptTokens.get(promptIndex + i);
+            }
+            // only compute the logits for the last chunk
+            boolean computeLogits = promptIndex + nTokens >= promptTokens.size();
+            Llama.ingest(model, state, tokens, position, computeLogits);
+            position += nTokens;
+            promptIndex += nTokens;
+            if (computeLogits) {
+                emit(state.sampleToken(sampler));
+            }
+        }
+
+        void emit(int token) {
+            generatedTokens.add(token);
+            if (onTokenGenerated != null) {
+                try {
+                    onTokenGenerated.accept(token);
+                } catch (Throwable t) {
+                    fail(t);
+                    return;
+                }
+            }
+            if (stopTokens.contains(token) || position >= limit) {
+                result.complete(generatedTokens);
+                return;
+            }
+            state.latestToken = nextToken = token;
+        }
+
+        void fail(Throwable t) {
+            result.completeExceptionally(t);
+        }
+    }
+}
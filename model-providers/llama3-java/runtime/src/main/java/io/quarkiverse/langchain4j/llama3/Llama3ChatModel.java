@@ -11,6 +11,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.IntConsumer;
 
 import org.jboss.logging.Logger;
 
@@ -30,6 +31,9 @@ public class Llama3ChatModel implements ChatModel {
 
     private final Path modelPath;
     private final Llama model;
+    private final Llama3StatePool statePool;
+    private final Llama3PromptCache promptCache;
+    private final Llama3BatchScheduler batchScheduler;
     private final Float temperature;
     private final Integer maxTokens;
     private final Float topP;
@@ -48,6 +52,12 @@ public class Llama3ChatModel implements ChatModel {
         } catch (InterruptedException e) {
             throw new RuntimeException(e);
         }
+        statePool = Llama3StatePool.create(model, Llama3.BATCH_SIZE, builder.statePoolSize);
+        Llama3Metrics.registerIfAvailable(statePool, builder.modelName);
+        promptCache = Llama3PromptCache.create(model, Llama3.BATCH_SIZE, builder.promptCacheMaxMemory, statePool);
+        Llama3Metrics.registerIfAvailable(promptCache, builder.modelName);
+        batchScheduler = Llama3BatchScheduler.getOrCreate(builder.modelName, builder.quantization, model,
+                builder.maxConcurrentSequences);
         temperature = builder.temperature;
         maxTokens = builder.maxTokens;
         topP = builder.topP;
@@ -97,20 +107,38 @@ public class Llama3ChatModel implements ChatModel {
 
     private InferenceResponse runInference(Llama model, Sampler sampler, Llama3.Options options,
             List<ChatFormat.Message> messages) {
-        Llama.State state = model.createNewState(Llama3.BATCH_SIZE);
         ChatFormat chatFormat = new ChatFormat(model.tokenizer());
 
         List<Integer> promptTokens = new ArrayList<>(chatFormat.encodeDialogPrompt(true, messages));
 
+        // resume from the longest prompt prefix already ingested by a previous inference, if any
+        Llama3PromptCache.Lease lease = promptCache != null ? promptCache.acquire(promptTokens) : null;
+        Llama.State state = lease != null ? lease.state() : borrowState();
+        int startPosition = lease != null ? lease.startPosition() : 0;
+
         Set<Integer> stopTokens = chatFormat.getStopTokens();
-        List<Integer> responseTokens = Llama.generateTokens(model, state, 0, promptTokens, stopTokens, options.maxTokens(),
-                sampler, options.echo(), token -> {
-                    if (options.stream()) {
-                        if (!model.tokenizer().isSpecialToken(token)) {
-                            System.out.print(model.tokenizer().decode(List.of(token)));
-                        }
-                    }
-                });
+        List<Integer> remainingPromptTokens = promptTokens.subList(startPosition, promptTokens.size());
+        IntConsumer onTokenGenerated = token -> {
+            if (options.stream()) {
+                if (!model.tokenizer().isSpecialToken(token)) {
+                    System.out.print(model.tokenizer().decode(List.of(token)));
+                }
+            }
+        };
+        List<Integer> responseTokens;
+        try {
+            if (batchScheduler != null) {
+                responseTokens = batchScheduler.generateTokens(state, startPosition, remainingPromptTokens, stopTokens,
+                        options.maxTokens(), sampler, onTokenGenerated);
+            } else {
+                responseTokens = Llama.generateTokens(model, state, startPosition, remainingPromptTokens, stopTokens,
+                        options.maxTokens(), sampler, options.echo(), onTokenGenerated);
+            }
+        } catch (Throwable t) {
+            discardState(lease, state);
+            throw t;
+        }
+        releaseState(lease, state, promptTokens, responseTokens);
         if (!responseTokens.isEmpty() && stopTokens.contains(responseTokens.getLast())) {
             responseTokens.removeLast();
         }
@@ -122,6 +150,27 @@ public class Llama3ChatModel implements ChatModel {
 
     }
 
+    private Llama.State borrowState() {
+        return statePool != null ? statePool.borrow() : model.createNewState(Llama3.BATCH_SIZE);
+    }
+
+    private void releaseState(Llama3PromptCache.Lease lease, Llama.State state, List<Integer> promptTokens,
+            List<Integer> responseTokens) {
+        if (lease != null) {
+            promptCache.release(lease, promptTokens, responseTokens);
+        } else if (statePool != null) {
+            statePool.release(state);
+        }
+    }
+
+    private void discardState(Llama3PromptCache.Lease lease, Llama.State state) {
+        if (lease != null) {
+            promptCache.discard(lease);
+        } else if (statePool != null) {
+            statePool.release(state);
+        }
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -137,6 +186,9 @@ public class Llama3ChatModel implements ChatModel {
         private Float temperature = 0.7f;
         private Float topP = 0.95f;
         private Integer seed = 17;
+        private long promptCacheMaxMemory;
+        private int statePoolSize;
+        private int maxConcurrentSequences;
         private boolean logRequests;
         private boolean logResponses;
 
@@ -185,6 +237,21 @@ public class Llama3ChatModel implements ChatModel {
             return this;
         }
 
+        public Builder promptCacheMaxMemory(long promptCacheMaxMemory) {
+            this.promptCacheMaxMemory = promptCacheMaxMemory;
+            return this;
+        }
+
+        public Builder statePoolSize(int statePoolSize) {
+            this.statePoolSize = statePoolSize;
+            return this;
+        }
+
+        public Builder maxConcurrentSequences(int maxConcurrentSequences) {
+            this.maxConcurrentSequences = maxConcurrentSequences;
+            return this;
+        }
+
         public Builder logResponses(boolean logResponses) {
             this.logResponses = logResponses;
             return this;
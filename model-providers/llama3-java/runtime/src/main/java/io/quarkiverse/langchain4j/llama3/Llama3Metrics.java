@@ -0,0 +1,97 @@
+package io.quarkiverse.langchain4j.llama3;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Exposes the statistics of the {@link Llama3PromptCache} and of the {@link Llama3StatePool} as Micrometer meters.
+ * Only used when Micrometer is available.
+ */
+final class Llama3Metrics {
+
+    private static final boolean MICROMETER_AVAILABLE = isMicrometerAvailable();
+
+    private Llama3Metrics() {
+    }
+
+    static void registerIfAvailable(Llama3PromptCache cache, String modelName) {
+        if (cache != null && MICROMETER_AVAILABLE) {
+            register(cache, modelName);
+        }
+    }
+
+    private static void register(Llama3PromptCache cache, String modelName) {
+        Tags tags = Tags.of("gen_ai.request.model", modelName);
+        FunctionCounter.builder("langchain4j.llama3.prompt.cache.requests", cache, Llama3PromptCache::hits)
+                .description("Number of inferences that resumed from a cached prompt prefix")
+                .tags(tags).tag("result", "hit")
+                .register(Metrics.globalRegistry);
+        FunctionCounter.builder("langchain4j.llama3.prompt.cache.requests", cache, Llama3PromptCache::misses)
+                .description("Number of inferences that resumed from a cached prompt prefix")
+                .tags(tags).tag("result", "miss")
+                .register(Metrics.globalRegistry);
+        FunctionCounter.builder("langchain4j.llama3.prompt.cache.saved.tokens", cache,
+                Llama3PromptCache::savedPrefillTokens)
+                .description("Number of prompt tokens that did not need to be ingested thanks to the prompt cache")
+                .tags(tags)
+                .register(Metrics.globalRegistry);
+        FunctionCounter.builder("langchain4j.llama3.prompt.cache.evictions", cache, Llama3PromptCache::evictions)
+                .description("Number of cached states evicted because of the memory budget")
+                .tags(tags)
+                .register(Metrics.globalRegistry);
+        Gauge.builder("langchain4j.llama3.prompt.cache.hit.rate", cache, Llama3PromptCache::hitRate)
+                .description("Ratio of inferences that resumed from a cached prompt prefix")
+                .tags(tags)
+                .register(Metrics.globalRegistry);
+        Gauge.builder("langchain4j.llama3.prompt.cache.size", cache, Llama3PromptCache::size)
+                .description("Number of states currently held by the prompt cache")
+                .tags(tags)
+                .register(Metrics.globalRegistry);
+    }
+
+    static void registerIfAvailable(Llama3StatePool pool, String modelName) {
+        if (pool != null && MICROMETER_AVAILABLE) {
+            register(pool, modelName);
+        }
+    }
+
+    private static void register(Llama3StatePool pool, String modelName) {
+        Tags tags = Tags.of("gen_ai.request.model", modelName);
+        Gauge.builder("langchain4j.llama3.state.pool.size", pool, Llama3StatePool::size)
+                .description("Number of inference states allocated by the pool")
+                .tags(tags)
+                .register(Metrics.globalRegistry);
+        Gauge.builder("langchain4j.llama3.state.pool.max", pool, Llama3StatePool::maxSize)
+                .description("Maximum number of inference states of the pool")
+                .tags(tags)
+                .register(Metrics.globalRegistry);
+        Gauge.builder("langchain4j.llama3.state.pool.in.use", pool, Llama3StatePool::inUse)
+                .description("Number of inference states currently borrowed from the pool")
+                .tags(tags)
+                .register(Metrics.globalRegistry);
+        Gauge.builder("langchain4j.llama3.state.pool.saturation", pool, Llama3StatePool::saturation)
+                .description("Ratio of the inference states of the pool currently borrowed")
+                .tags(tags)
+                .register(Metrics.globalRegistry);
+        Gauge.builder("langchain4j.llama3.state.pool.waiting", pool, Llama3StatePool::waiting)
+                .description("Number of inferences currently waiting for an inference state")
+                .tags(tags)
+                .register(Metrics.globalRegistry);
+        FunctionCounter.builder("langchain4j.llama3.state.pool.waits", pool, Llama3StatePool::waits)
+                .description("Number of inferences that had to wait for an inference state")
+                .tags(tags)
+                .register(Metrics.globalRegistry);
+    }
+
+    private static boolean isMicrometerAvailable() {
+        try {
+            Class.forName("io.micrometer.core.instrument.Metrics", false,
+                    Llama3Metrics.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package io.quarkiverse.langchain4j.llama3;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.logging.Logger;
+
+import io.quarkiverse.langchain4j.llama3.copy.Llama;
+
+/**
+ * Keeps the {@link Llama.State} (and therefore the key/value caches) of previous inferences around, so that a prompt
+ * starting with the same tokens as a previous one (typically the system message and the chat history of a
+ * conversation) only needs to ingest the tokens that differ, instead of re-ingesting the whole prompt on every turn.
+ * <p>
+ * A cached state is exclusively owned by an inference while it runs: {@link #acquire(List)} removes the state sharing
+ * the longest prefix with the prompt from the cache and {@link #release(Lease, List, List)} puts it back along with the
+ * tokens it now holds. The least recently used states are evicted once the memory budget is exceeded, or when an
+ * inference needs a state while all the states of the {@link Llama3StatePool} are in use.
+ */
+public final class Llama3PromptCache {
+
+    private static final Logger log = Logger.getLogger(Llama3PromptCache.class);
+
+    private final Llama model;
+    private final int batchSize;
+    private final int maxEntries;
+    private final Llama3StatePool statePool;
+
+    /**
+     * Ordered from the least recently used to the most recently used entry
+     */
+    private final LinkedList<Entry> entries = new LinkedList<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder savedPrefillTokens = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private Llama3PromptCache(Llama model, int batchSize, int maxEntries, Llama3StatePool statePool) {
+        this.model = model;
+        this.batchSize = batchSize;
+        this.maxEntries = maxEntries;
+        this.statePool = statePool;
+    }
+
+    /**
+     * @param statePool the pool the states are borrowed from, or {@code null} if states are not pooled
+     * @return the cache, or {@code null} if the memory budget is not large enough to hold a single state
+     */
+    static Llama3PromptCache create(Llama model, int batchSize, long maxMemoryInBytes, Llama3StatePool statePool) {
+        if (maxMemoryInBytes <= 0) {
+            return null;
+        }
+        long stateSize = estimateStateSize(model.configuration(), batchSize);
+        long maxEntries = maxMemoryInBytes / stateSize;
+        if (maxEntries < 1) {
+            log.warnf("The prompt cache is disabled because its memory budget (%d bytes) cannot hold the state of a "
+                    + "single inference (%d bytes)", maxMemoryInBytes, stateSize);
+            return null;
+        }
+        Llama3PromptCache cache = new Llama3PromptCache(model, batchSize, (int) Math.min(maxEntries, Integer.MAX_VALUE),
+                statePool);
+        if (statePool != null) {
+            // the inferences waiting for a state take the ones the cache holds rather than waiting for an eviction
+            statePool.reclaimIdleStatesWith(cache::evictEldest);
+        }
+        return cache;
+    }
+
+    /**
+     * Approximates the heap used by a {@link Llama.State}, which is dominated by the key/value caches.
+     */
+    static long estimateStateSize(Llama.Configuration config, int batchSize) {
+        long kvDim = ((long) config.dim * config.numberOfKeyValueHeads) / config.numberOfHeads;
+        long kvCaches = 2L * config.numberOfLayers * config.contextLength * kvDim;
+        long activations = (long) batchSize * (6L * config.dim + 2L * config.hiddenDim
+                + (long) config.numberOfHeads * config.contextLength);
+        return Float.BYTES * (kvCaches + activations + config.vocabularySize);
+    }
+
+    /**
+     * Returns a state to run the inference of the given prompt with. When a cached state shares a prefix with the
+     * prompt, the lease starts after this prefix, otherwise a new state is created and the whole prompt has to be
+     * ingested.
+     */
+    Lease acquire(List<Integer> promptTokens) {
+        Entry best = null;
+        int bestLength = 0;
+        synchronized (entries) {
+            for (Entry entry : entries) {
+                int length = commonPrefixLength(entry.tokens(), promptTokens);
+                if (length > bestLength) {
+                    best = entry;
+                    bestLength = length;
+                }
+            }
+            if (best != null) {
+                entries.remove(best);
+            }
+        }
+        if (best == null) {
+            misses.increment();
+            return new Lease(newState(), 0);
+        }
+        // at least one prompt token must be ingested to compute the logits the first token is sampled from
+        int startPosition = Math.min(bestLength, promptTokens.size() - 1);
+        hits.increment();
+        savedPrefillTokens.add(startPosition);
+        return new Lease(best.state(), startPosition);
+    }
+
+    private Llama.State newState() {
+        if (statePool == null) {
+            return model.createNewState(batchSize);
+        }
+        // when the pool is exhausted, it reuses the state of the least recently used entry before waiting
+        return statePool.borrow();
+    }
+
+    /**
+     * Removes the least recently used entry, to let another inference reuse its state.
+     *
+     * @return the state of the entry, or {@code null} if the cache is empty
+     */
+    private Llama.State evictEldest() {
+        synchronized (entries) {
+            Entry eldest = entries.pollFirst();
+            if (eldest == null) {
+                return null;
+            }
+            evictions.increment();
+            return eldest.state();
+        }
+    }
+
+    /**
+     * Makes the state of the lease available to subsequent inferences.
+     *
+     * @param promptTokens the whole prompt of the inference
+     * @param generatedTokens the generated tokens, the last one has not been fed back to the model so its key and value
+     *        are not part of the state
+     */
+    void release(Lease lease, List<Integer> promptTokens, List<Integer> generatedTokens) {
+        int fedTokens = promptTokens.size() + Math.max(0, generatedTokens.size() - 1);
+        int length = Math.min(fedTokens, model.configuration().contextLength);
+        if (length == 0) {
+            // nothing worth caching
+            discard(lease);
+            return;
+        }
+        int[] cachedTokens = new int[length];
+        for (int i = 0; i < length; i++) {
+            cachedTokens[i] = i < promptTokens.size() ? promptTokens.get(i) : generatedTokens.get(i - promptTokens.size());
+        }
+        List<Llama.State> evicted = new ArrayList<>();
+        synchronized (entries) {
+            entries.addLast(new Entry(lease.state(), cachedTokens));
+            while (entries.size() > maxEntries) {
+                evicted.add(entries.pollFirst().state());
+                evictions.increment();
+            }
+        }
+        // the pool is only called once the lock of the cache is released, as the pool calls the cache while holding
+        // its own lock
+        if (statePool != null) {
+            for (Llama.State state : evicted) {
+                statePool.release(state);
+            }
+            if (evicted.isEmpty()) {
+                statePool.signalIdleState();
+            }
+        }
+    }
+
+    /**
+     * Gives up the state of a lease whose inference failed, as its content is unknown.
+     */
+    void discard(Lease lease) {
+        if (statePool != null) {
+            statePool.release(lease.state());
+        }
+    }
+
+    private static int commonPrefixLength(int[] cached, List<Integer> prompt) {
+        int max = Math.min(cached.length, prompt.size());
+        int i = 0;
+        while (i < max && cached[i] == prompt.get(i)) {
+            i++;
+        }
+        return i;
+    }
+
+    public int maxEntries() {
+        return maxEntries;
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the ratio of inferences that could resume from a cached prefix
+     */
+    public double hitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    /**
+     * @return the number of prompt tokens that did not need to be ingested thanks to the cache
+     */
+    public long savedPrefillTokens() {
+        return savedPrefillTokens.sum();
+    }
+
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    record Lease(Llama.State state, int startPosition) {
+    }
+
+    private record Entry(Llama.State state, int[] tokens) {
+    }
+}
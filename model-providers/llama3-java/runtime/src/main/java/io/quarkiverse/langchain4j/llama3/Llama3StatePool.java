@@ -0,0 +1,204 @@
+package io.quarkiverse.langchain4j.llama3;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import io.quarkiverse.langchain4j.llama3.copy.Llama;
+
+/**
+ * A bounded pool of {@link Llama.State}.
+ * <p>
+ * A state holds the key/value caches for the whole context length, which represents hundreds of megabytes for a 4k
+ * context. Creating one per request leads to large allocations and GC pauses, so the states are created lazily, up to
+ * the size of the pool, and are reset and reused afterward. When all the states are borrowed, the requests wait until
+ * one is released, which also bounds the memory used by the inferences.
+ * <p>
+ * States that are not in use may also be held elsewhere, typically by the {@link Llama3PromptCache}: such a holder
+ * registers a {@link #reclaimIdleStatesWith(Supplier) reclaimer}, which is asked for a state before waiting, and
+ * calls {@link #signalIdleState()} whenever it starts holding a state, so that the waiting inferences can reclaim it.
+ */
+public final class Llama3StatePool {
+
+    private final Llama model;
+    private final int batchSize;
+    private final int maxSize;
+
+    private final ArrayDeque<Llama.State> idle;
+    private Supplier<Llama.State> reclaimer;
+    private int created;
+    private int waiting;
+
+    private final LongAdder borrows = new LongAdder();
+    private final LongAdder waits = new LongAdder();
+
+    private Llama3StatePool(Llama model, int batchSize, int maxSize) {
+        this.model = model;
+        this.batchSize = batchSize;
+        this.maxSize = maxSize;
+        this.idle = new ArrayDeque<>(maxSize);
+    }
+
+    /**
+     * @return the pool, or {@code null} if states should not be pooled
+     */
+    static Llama3StatePool create(Llama model, int batchSize, int maxSize) {
+        if (maxSize <= 0) {
+            return null;
+        }
+        return new Llama3StatePool(model, batchSize, maxSize);
+    }
+
+    /**
+     * Sets where to take the states from when they are all borrowed, see {@link #signalIdleState()}.
+     *
+     * @param reclaimer returns a state that is held but not in use, or {@code null} if there is none; it is called while
+     *        holding the lock of the pool
+     */
+    synchronized void reclaimIdleStatesWith(Supplier<Llama.State> reclaimer) {
+        this.reclaimer = reclaimer;
+    }
+
+    /**
+     * Wakes up the inferences waiting for a state, as the reclaimer now holds one they can take.
+     */
+    synchronized void signalIdleState() {
+        if (waiting > 0) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * Borrows a state, waiting for another inference to release one if all the states of the pool are in use.
+     */
+    Llama.State borrow() {
+        Llama.State state = tryBorrow();
+        if (state != null) {
+            return state;
+        }
+        synchronized (this) {
+            state = reclaim();
+            if (state != null) {
+                return state;
+            }
+            waits.increment();
+            waiting++;
+            try {
+                while (idle.isEmpty() && created >= maxSize) {
+                    // checked under the lock of the pool, so a state signaled afterward wakes this thread up
+                    state = reclaim();
+                    if (state != null) {
+                        return state;
+                    }
+                    wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for an inference state", e);
+            } finally {
+                waiting--;
+            }
+        }
+        // another thread may have taken the state in the meantime
+        return borrow();
+    }
+
+    private Llama.State reclaim() {
+        if (reclaimer == null || !idle.isEmpty() || created < maxSize) {
+            return null;
+        }
+        Llama.State state = reclaimer.get();
+        if (state == null) {
+            return null;
+        }
+        borrows.increment();
+        return model.resetState(state);
+    }
+
+    /**
+     * Borrows a state if one is available (or can be created) without waiting.
+     *
+     * @return the state, or {@code null} if all the states of the pool are in use
+     */
+    Llama.State tryBorrow() {
+        boolean create;
+        synchronized (this) {
+            Llama.State state = idle.pollLast();
+            if (state != null) {
+                borrows.increment();
+                return model.resetState(state);
+            }
+            create = created < maxSize;
+            if (create) {
+                created++;
+            }
+        }
+        if (!create) {
+            return null;
+        }
+        try {
+            Llama.State state = model.createNewState(batchSize);
+            borrows.increment();
+            return state;
+        } catch (Throwable t) {
+            synchronized (this) {
+                created--;
+                notifyAll();
+            }
+            throw t;
+        }
+    }
+
+    /**
+     * Returns a state to the pool, making it available to other inferences.
+     */
+    void release(Llama.State state) {
+        synchronized (this) {
+            idle.addLast(state);
+            notifyAll();
+        }
+    }
+
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return the number of states that have been allocated so far
+     */
+    public synchronized int size() {
+        return created;
+    }
+
+    /**
+     * @return the number of states currently used by inferences (or held by the prompt cache)
+     */
+    public synchronized int inUse() {
+        return created - idle.size();
+    }
+
+    /**
+     * @return the ratio of the pool currently in use
+     */
+    public double saturation() {
+        return (double) inUse() / maxSize;
+    }
+
+    /**
+     * @return the number of inferences currently waiting for a state
+     */
+    public synchronized int waiting() {
+        return waiting;
+    }
+
+    public long borrows() {
+        return borrows.sum();
+    }
+
+    /**
+     * @return the number of inferences that had to wait for a state because the pool was exhausted
+     */
+    public long waits() {
+        return waits.sum();
+    }
+}
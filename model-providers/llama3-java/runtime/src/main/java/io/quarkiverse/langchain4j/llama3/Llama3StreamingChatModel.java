@@ -13,6 +13,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.IntConsumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,6 +34,9 @@ public class Llama3StreamingChatModel implements StreamingChatModel {
     private static final Logger log = LoggerFactory.getLogger(Llama3StreamingChatModel.class);
     private final Path modelPath;
     private final Llama model;
+    private final Llama3StatePool statePool;
+    private final Llama3PromptCache promptCache;
+    private final Llama3BatchScheduler batchScheduler;
     private final Float temperature;
     private final Integer maxTokens;
     private final Float topP;
@@ -51,6 +55,12 @@ public class Llama3StreamingChatModel implements StreamingChatModel {
         } catch (InterruptedException e) {
             throw new RuntimeException(e);
         }
+        statePool = Llama3StatePool.create(model, BATCH_SIZE, builder.statePoolSize);
+        Llama3Metrics.registerIfAvailable(statePool, builder.modelName);
+        promptCache = Llama3PromptCache.create(model, BATCH_SIZE, builder.promptCacheMaxMemory, statePool);
+        Llama3Metrics.registerIfAvailable(promptCache, builder.modelName);
+        batchScheduler = Llama3BatchScheduler.getOrCreate(builder.modelName, builder.quantization, model,
+                builder.maxConcurrentSequences);
         temperature = builder.temperature;
         maxTokens = builder.maxTokens;
         topP = builder.topP;
@@ -92,21 +102,53 @@ public class Llama3StreamingChatModel implements StreamingChatModel {
     private void runInference(Llama model, Sampler sampler, Llama3.Options options,
             List<ChatFormat.Message> messages,
             StreamingChatResponseHandler handler) {
-        Llama.State state = model.createNewState(BATCH_SIZE);
         ChatFormat chatFormat = new ChatFormat(model.tokenizer());
 
         List<Integer> promptTokens = new ArrayList<>(chatFormat.encodeDialogPrompt(true, messages));
 
+        // resume from the longest prompt prefix already ingested by a previous inference, if any
+        Llama3PromptCache.Lease lease = promptCache != null ? promptCache.acquire(promptTokens) : null;
+        Llama.State state = lease != null ? lease.state() : borrowState();
+        int startPosition = lease != null ? lease.startPosition() : 0;
+
         Set<Integer> stopTokens = chatFormat.getStopTokens();
-        List<Integer> responseTokens = Llama.generateTokens(model, state, 0, promptTokens, stopTokens, options.maxTokens(),
-                sampler, options.echo(), token -> {
-                    if (options.stream()) {
-                        if (!model.tokenizer().isSpecialToken(token)) {
-                            String text = model.tokenizer().decode(List.of(token));
-                            handler.onPartialResponse(text);
+        List<Integer> remainingPromptTokens = promptTokens.subList(startPosition, promptTokens.size());
+        IntConsumer onTokenGenerated = token -> {
+            if (options.stream()) {
+                if (!model.tokenizer().isSpecialToken(token)) {
+                    String text = model.tokenizer().decode(List.of(token));
+                    handler.onPartialResponse(text);
+                }
+            }
+        };
+        if (batchScheduler != null) {
+            // the tokens are emitted from the scheduler thread, there is no need to keep the current thread busy
+            batchScheduler.submit(state, startPosition, remainingPromptTokens, stopTokens, options.maxTokens(), sampler,
+                    onTokenGenerated)
+                    .whenComplete((responseTokens, failure) -> {
+                        if (failure != null) {
+                            discardState(lease, state);
+                            handler.onError(failure);
+                        } else {
+                            complete(lease, state, promptTokens, responseTokens, stopTokens, handler);
                         }
-                    }
-                });
+                    });
+            return;
+        }
+        List<Integer> responseTokens;
+        try {
+            responseTokens = Llama.generateTokens(model, state, startPosition, remainingPromptTokens,
+                    stopTokens, options.maxTokens(), sampler, options.echo(), onTokenGenerated);
+        } catch (Throwable t) {
+            discardState(lease, state);
+            throw t;
+        }
+        complete(lease, state, promptTokens, responseTokens, stopTokens, handler);
+    }
+
+    private void complete(Llama3PromptCache.Lease lease, Llama.State state, List<Integer> promptTokens,
+            List<Integer> responseTokens, Set<Integer> stopTokens, StreamingChatResponseHandler handler) {
+        releaseState(lease, state, promptTokens, responseTokens);
         if (!responseTokens.isEmpty() && stopTokens.contains(responseTokens.getLast())) {
             responseTokens.removeLast();
         }
@@ -115,6 +157,27 @@ public class Llama3StreamingChatModel implements StreamingChatModel {
                 .tokenUsage(new TokenUsage(promptTokens.size(), responseTokens.size())).build());
     }
 
+    private Llama.State borrowState() {
+        return statePool != null ? statePool.borrow() : model.createNewState(BATCH_SIZE);
+    }
+
+    private void releaseState(Llama3PromptCache.Lease lease, Llama.State state, List<Integer> promptTokens,
+            List<Integer> responseTokens) {
+        if (lease != null) {
+            promptCache.release(lease, promptTokens, responseTokens);
+        } else if (statePool != null) {
+            statePool.release(state);
+        }
+    }
+
+    private void discardState(Llama3PromptCache.Lease lease, Llama.State state) {
+        if (lease != null) {
+            promptCache.discard(lease);
+        } else if (statePool != null) {
+            statePool.release(state);
+        }
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -130,6 +193,9 @@ public class Llama3StreamingChatModel implements StreamingChatModel {
         private Float temperature = 0.7f;
         private Float topP = 0.95f;
         private Integer seed = 17;
+        private long promptCacheMaxMemory;
+        private int statePoolSize;
+        private int maxConcurrentSequences;
         private Boolean logRequests;
         private Boolean logResponses;
 
@@ -178,6 +244,21 @@ public class Llama3StreamingChatModel implements StreamingChatModel {
             return this;
         }
 
+        public Builder promptCacheMaxMemory(long promptCacheMaxMemory) {
+            this.promptCacheMaxMemory = promptCacheMaxMemory;
+            return this;
+        }
+
+        public Builder statePoolSize(int statePoolSize) {
+            this.statePoolSize = statePoolSize;
+            return this;
+        }
+
+        public Builder maxConcurrentSequences(int maxConcurrentSequences) {
+            this.maxConcurrentSequences = maxConcurrentSequences;
+            return this;
+        }
+
         public Builder logResponses(Boolean logResponses) {
             this.logResponses = logResponses;
             return this;
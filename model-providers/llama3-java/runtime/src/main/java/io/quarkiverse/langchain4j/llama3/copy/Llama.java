@@ -17,6 +17,25 @@ public record Llama(Configuration configuration, Tokenizer tokenizer, Weights we
         return state;
     }
 
+    /**
+     * Resets a state previously used by another inference, so that it can be used as if it had been created by
+     * {@link #createNewState(int)}. The buffers are not cleared, as they are always written before being read.
+     */
+    public State resetState(State state) {
+        state.idxPrevBlock = -1;
+        state.latestToken = tokenizer.getSpecialTokens().get("<|begin_of_text|>");
+        return state;
+    }
+
+    /**
+     * Creates the state holding the activations of a batch of tokens belonging to different sequences, see
+     * {@link #forwardBatch(Llama, State, State[], int[], int[])}. The key/value caches are the ones of each sequence, so
+     * the batch state does not allocate any.
+     */
+    public State createBatchState(int batchsize) {
+        return new State(configuration(), batchsize, false);
+    }
+
     public static final class Configuration {
         public final int dim; // transformer dimension
         public final int hiddenDim; // for ffn layers
@@ -121,6 +140,10 @@ public record Llama(Configuration configuration, Tokenizer tokenizer, Weights we
         public int latestToken;
 
         State(Configuration config, int batchsize) {
+            this(config, batchsize, true);
+        }
+
+        State(Configuration config, int batchsize, boolean allocateKeyValueCaches) {
             this.batchsize = batchsize;
             this.x = allocate(batchsize, config.dim);
             this.xb = allocate(batchsize, config.dim);
@@ -134,12 +157,24 @@ public record Llama(Configuration configuration, Tokenizer tokenizer, Weights we
             idxPrevBlock = -1;
 
             this.logits = ArrayFloatTensor.allocate(config.vocabularySize);
+            if (!allocateKeyValueCaches) {
+                this.keyCache = null;
+                this.valueCache = null;
+                return;
+            }
             int kvDim = (config.dim * config.numberOfKeyValueHeads) / config.numberOfHeads;
             this.keyCache = Stream.generate(() -> ArrayFloatTensor.allocate(config.contextLength, kvDim))
                     .limit(config.numberOfLayers).toArray(FloatTensor[]::new);
             this.valueCache = Stream.generate(() -> ArrayFloatTensor.allocate(config.contextLength, kvDim))
                     .limit(config.numberOfLayers).toArray(FloatTensor[]::new);
         }
+
+        /**
+         * Samples the next token from the logits computed by the latest forward pass of this sequence.
+         */
+        public int sampleToken(Sampler sampler) {
+            return sampler.sampleToken(logits);
+        }
     }
 
     static FloatTensor[] allocate(int numTokens, int... dims) {
@@ -310,6 +345,128 @@ public record Llama(Configuration configuration, Tokenizer tokenizer, Weights we
         return state.logits;
     }
 
+    /**
+     * Ingests a chunk of prompt tokens of a single sequence, see {@link #forward(Llama, State, int[], int, boolean)}.
+     */
+    public static void ingest(Llama model, State state, int[] tokens, int position, boolean computeLogits) {
+        forward(model, state, tokens, position, computeLogits);
+    }
+
+    /**
+     * Runs a single forward pass for one token of each of the given sequences, so that the weights are only streamed
+     * once for the whole batch instead of once per sequence.
+     * The activations are computed in {@code batch}, while the keys and values are read from and stored into the
+     * caches of each sequence, and the logits are stored in the state of each sequence.
+     *
+     * @param batch state created with {@link #createBatchState(int)}, its batch size must be at least the number of
+     *        sequences
+     * @param states the state of each sequence
+     * @param tokens the token of each sequence
+     * @param positions the position of the token in each sequence
+     */
+    public static void forwardBatch(Llama model, State batch, State[] states, int[] tokens, int[] positions) {
+        Configuration config = model.configuration();
+        Weights weights = model.weights();
+        int dim = config.dim;
+        int headSize = config.headSize;
+        int kvDim = (config.dim * config.numberOfKeyValueHeads) / config.numberOfHeads;
+        int kvMul = config.numberOfHeads / config.numberOfKeyValueHeads;
+        float sqrtHeadSize = (float) Math.sqrt(headSize);
+        final int nTokens = tokens.length;
+
+        Parallel.parallelFor(0, nTokens, t -> weights.token_embedding_table.copyTo(tokens[t] * dim, batch.x[t], 0, dim));
+
+        for (int l = 0; l < config.numberOfLayers; l++) {
+            final int curLayer = l;
+            Parallel.parallelFor(0, nTokens,
+                    t -> rmsnorm(batch.xb[t], batch.x[t], weights.rms_att_weight[curLayer], dim, config.rmsNormEps));
+
+            weights.wq[l].matmul(nTokens, batch.xb, batch.q, dim, dim);
+            weights.wk[l].matmul(nTokens, batch.xb, batch.k, kvDim, dim);
+            weights.wv[l].matmul(nTokens, batch.xb, batch.v, kvDim, dim);
+
+            // RoPE, each token being at its own position
+            Parallel.parallelFor(0, nTokens, t -> {
+                for (int i = 0; i < dim; i += 2) {
+                    int head_dim = i % headSize;
+                    float fcr = weights.freq_cis_real.get(positions[t] * (headSize / 2) + (head_dim / 2));
+                    float fci = weights.freq_cis_imag.get(positions[t] * (headSize / 2) + (head_dim / 2));
+                    int rotn = i < kvDim ? 2 : 1;
+                    for (int vi = 0; vi < rotn; vi++) {
+                        FloatTensor vec = vi == 0 ? batch.q[t] : batch.k[t];
+                        float v0 = vec.getFloat(i);
+                        float v1 = vec.getFloat(i + 1);
+                        vec.setFloat(i, v0 * fcr - v1 * fci);
+                        vec.setFloat(i + 1, v0 * fci + v1 * fcr);
+                    }
+                }
+            });
+
+            // save key,value into the cache of each sequence
+            Parallel.parallelFor(0, nTokens, t -> {
+                batch.k[t].copyTo(0, states[t].keyCache[curLayer], positions[t] * kvDim, kvDim);
+                batch.v[t].copyTo(0, states[t].valueCache[curLayer], positions[t] * kvDim, kvDim);
+            });
+
+            // multihead attention, each token only attends to the keys and values of its own sequence
+            Parallel.parallelForLong(0, (long) nTokens * (long) config.numberOfHeads, ht -> {
+                int token = (int) (ht / config.numberOfHeads);
+                int h = (int) (ht % config.numberOfHeads);
+                int qOffset = h * headSize;
+                int attOffset = h * config.contextLength;
+                FloatTensor keyCache = states[token].keyCache[curLayer];
+                FloatTensor valueCache = states[token].valueCache[curLayer];
+                int position = positions[token];
+
+                for (int t = 0; t <= position; t++) {
+                    int keyCacheOffset = t * kvDim + (h / kvMul) * headSize;
+                    float score = batch.q[token].dot(qOffset, keyCache, keyCacheOffset, headSize);
+                    score /= sqrtHeadSize;
+                    batch.att[token].setFloat(attOffset + t, score);
+                }
+
+                batch.att[token].softmaxInPlace(attOffset, position + 1);
+
+                int xbOffset = h * headSize;
+                batch.xb[token].fillInPlace(xbOffset, headSize, 0f);
+
+                for (int t = 0; t <= position; t++) {
+                    int vOffset = t * kvDim + (h / kvMul) * headSize;
+                    float a = batch.att[token].getFloat(attOffset + t);
+                    batch.xb[token].saxpyInPlace(xbOffset, valueCache, vOffset, headSize, a);
+                }
+            });
+
+            weights.wo[l].matmul(nTokens, batch.xb, batch.xb2, dim, dim);
+
+            Parallel.parallelFor(0, nTokens, t -> batch.x[t].addInPlace(batch.xb2[t]));
+
+            Parallel.parallelFor(0, nTokens,
+                    t -> rmsnorm(batch.xb[t], batch.x[t], weights.rms_ffn_weight[curLayer], dim, config.rmsNormEps));
+
+            weights.w1[l].matmul(nTokens, batch.xb, batch.hb, config.hiddenDim, dim);
+            weights.w3[l].matmul(nTokens, batch.xb, batch.hb2, config.hiddenDim, dim);
+
+            Parallel.parallelFor(0, nTokens, t -> batch.hb[t].mapInPlace(value -> value / (float) (1.0 + Math.exp(-value))));
+
+            Parallel.parallelFor(0, nTokens, t -> batch.hb[t].multiplyInPlace(batch.hb2[t]));
+
+            weights.w2[l].matmul(nTokens, batch.hb, batch.xb, dim, config.hiddenDim);
+
+            Parallel.parallelFor(0, nTokens, t -> batch.x[t].addInPlace(batch.xb[t]));
+        }
+
+        Parallel.parallelFor(0, nTokens, t -> rmsnorm(batch.x[t], batch.x[t], weights.rms_final_weight, dim, config.rmsNormEps));
+
+        // classifier into the logits of each sequence
+        FloatTensor[] x = Arrays.copyOf(batch.x, nTokens);
+        FloatTensor[] logits = new FloatTensor[nTokens];
+        for (int t = 0; t < nTokens; t++) {
+            logits[t] = states[t].logits;
+        }
+        weights.wcls.matmul(nTokens, x, logits, config.vocabularySize, dim);
+    }
+
     /**
      * LLM generation entry point, ingest prompt tokens and generates new tokens.
      *
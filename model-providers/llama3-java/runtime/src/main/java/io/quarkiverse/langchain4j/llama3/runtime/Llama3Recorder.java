@@ -11,6 +11,7 @@ import dev.langchain4j.model.chat.DisabledChatModel;
 import dev.langchain4j.model.chat.DisabledStreamingChatModel;
 import dev.langchain4j.model.chat.StreamingChatModel;
 import io.quarkiverse.langchain4j.ModelBuilderCustomizer;
+import io.quarkiverse.langchain4j.llama3.Llama3BatchScheduler;
 import io.quarkiverse.langchain4j.llama3.Llama3ChatModel;
 import io.quarkiverse.langchain4j.llama3.Llama3StreamingChatModel;
 import io.quarkiverse.langchain4j.llama3.runtime.config.ChatModelConfig;
@@ -19,6 +20,7 @@ import io.quarkiverse.langchain4j.llama3.runtime.config.LangChain4jLlama3Runtime
 import io.quarkiverse.langchain4j.runtime.NamedConfigUtil;
 import io.quarkus.arc.SyntheticCreationalContext;
 import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
@@ -59,6 +61,15 @@ public class Llama3Recorder {
             if (chatModelConfig.maxTokens().isPresent()) {
                 builder.maxTokens(chatModelConfig.maxTokens().getAsInt());
             }
+            if (chatModelConfig.promptCacheMaxMemory().isPresent()) {
+                builder.promptCacheMaxMemory(chatModelConfig.promptCacheMaxMemory().get().asLongValue());
+            }
+            if (chatModelConfig.maxConcurrentSequences().isPresent()) {
+                builder.maxConcurrentSequences(chatModelConfig.maxConcurrentSequences().getAsInt());
+            }
+            if (chatModelConfig.statePoolSize().isPresent()) {
+                builder.statePoolSize(chatModelConfig.statePoolSize().getAsInt());
+            }
 
             return new Function<>() {
                 @Override
@@ -101,6 +112,15 @@ public class Llama3Recorder {
             if (chatModelConfig.maxTokens().isPresent()) {
                 builder.maxTokens(chatModelConfig.maxTokens().getAsInt());
             }
+            if (chatModelConfig.promptCacheMaxMemory().isPresent()) {
+                builder.promptCacheMaxMemory(chatModelConfig.promptCacheMaxMemory().get().asLongValue());
+            }
+            if (chatModelConfig.maxConcurrentSequences().isPresent()) {
+                builder.maxConcurrentSequences(chatModelConfig.maxConcurrentSequences().getAsInt());
+            }
+            if (chatModelConfig.statePoolSize().isPresent()) {
+                builder.statePoolSize(chatModelConfig.statePoolSize().getAsInt());
+            }
 
             return new Function<>() {
                 @Override
@@ -122,6 +142,15 @@ public class Llama3Recorder {
         }
     }
 
+    public void cleanUp(ShutdownContext shutdown) {
+        shutdown.addShutdownTask(new Runnable() {
+            @Override
+            public void run() {
+                Llama3BatchScheduler.closeAll();
+            }
+        });
+    }
+
     private LangChain4jLlama3RuntimeConfig.Llama3Config correspondingJlamaConfig(String configName) {
         LangChain4jLlama3RuntimeConfig.Llama3Config llama3Config;
         if (NamedConfigUtil.isDefault(configName)) {
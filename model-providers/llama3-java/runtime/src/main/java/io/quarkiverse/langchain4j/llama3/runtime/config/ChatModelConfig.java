@@ -1,10 +1,12 @@
 package io.quarkiverse.langchain4j.llama3.runtime.config;
 
+import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 
 import io.quarkus.runtime.annotations.ConfigDocDefault;
 import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.configuration.MemorySize;
 import io.smallrye.config.WithDefault;
 
 @ConfigGroup
@@ -23,4 +25,27 @@ public interface ChatModelConfig {
     @ConfigDocDefault("512")
     OptionalInt maxTokens();
 
+    /**
+     * Maximum amount of memory used to keep the key/value caches of previous inferences, so that a prompt starting with
+     * the same tokens as a previous one (e.g. the system message and the history of a conversation) only ingests the
+     * tokens that differ. Each cached inference holds the key/value caches for the whole context length, so the budget
+     * must be large enough to hold at least one of them. The cache is disabled when this is not set.
+     */
+    Optional<MemorySize> promptCacheMaxMemory();
+
+    /**
+     * Maximum number of concurrent requests whose tokens are generated together, in shared forward passes (continuous
+     * batching). This increases the overall throughput when the model is used concurrently, as the weights are only
+     * read once per step for all the requests. When not set (or lower than 2), each request runs its own forward passes
+     * on the calling thread.
+     */
+    OptionalInt maxConcurrentSequences();
+
+    /**
+     * Maximum number of inference states (which hold the key/value caches for the whole context length) kept and reused
+     * across requests, instead of allocating new ones for every request. When all the states are in use, requests wait
+     * for one to be released. When not set, a new state is allocated for every request.
+     */
+    OptionalInt statePoolSize();
+
 }
@@ -0,0 +1,73 @@
+package io.quarkiverse.langchain4j.llama3;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkiverse.langchain4j.llama3.copy.Llama;
+import io.quarkiverse.langchain4j.llama3.copy.Sampler;
+import io.quarkiverse.langchain4j.llama3.copy.TestModels;
+
+class Llama3BatchSchedulerTest {
+
+    private static final int MAX_TOKENS = 12;
+
+    private final Llama model = TestModels.tinyModel(64);
+
+    @AfterEach
+    void closeSchedulers() {
+        Llama3BatchScheduler.closeAll();
+    }
+
+    @Test
+    void generatesTheSameTokensAsSequentialGeneration() {
+        List<List<Integer>> prompts = List.of(List.of(1, 2, 3, 4, 5, 6), List.of(7, 8), List.of(9, 10, 11));
+        Llama3BatchScheduler scheduler = Llama3BatchScheduler.create(model, 4);
+        try {
+            List<CompletableFuture<List<Integer>>> results = prompts.stream()
+                    .map(prompt -> scheduler.submit(model.createNewState(4), 0, prompt, Set.of(), MAX_TOKENS,
+                            Sampler.ARGMAX, null))
+                    .toList();
+
+            for (int i = 0; i < prompts.size(); i++) {
+                List<Integer> expected = Llama.generateTokens(model, model.createNewState(4), 0, prompts.get(i),
+                        Set.of(), MAX_TOKENS, Sampler.ARGMAX, false, null);
+                assertThat(results.get(i)).succeedsWithin(Duration.ofSeconds(30)).isEqualTo(expected);
+            }
+        } finally {
+            scheduler.close();
+        }
+    }
+
+    @Test
+    void closedSchedulerFailsNewSequences() {
+        Llama3BatchScheduler scheduler = Llama3BatchScheduler.create(model, 2);
+        scheduler.close();
+
+        assertThat(scheduler.submit(model.createNewState(4), 0, List.of(1, 2), Set.of(), MAX_TOKENS, Sampler.ARGMAX,
+                null))
+                .failsWithin(Duration.ofSeconds(10))
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void modelsOfTheSameConfigurationShareTheScheduler() {
+        Llama3BatchScheduler scheduler = Llama3BatchScheduler.getOrCreate("owner/model", "Q4_0", model, 4);
+
+        assertThat(Llama3BatchScheduler.getOrCreate("owner/model", "Q4_0", TestModels.tinyModel(64), 4))
+                .isSameAs(scheduler);
+        assertThat(Llama3BatchScheduler.getOrCreate("owner/model", "Q8_0", model, 4)).isNotSameAs(scheduler);
+        assertThat(Llama3BatchScheduler.getOrCreate("owner/model", "Q4_0", model, 1)).isNull();
+
+        Llama3BatchScheduler.closeAll();
+        assertThat(Llama3BatchScheduler.getOrCreate("owner/model", "Q4_0", model, 4)).isNotSameAs(scheduler);
+    }
+}
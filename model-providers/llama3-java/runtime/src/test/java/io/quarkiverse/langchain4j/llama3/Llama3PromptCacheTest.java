@@ -0,0 +1,113 @@
+package io.quarkiverse.langchain4j.llama3;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkiverse.langchain4j.llama3.copy.Llama;
+import io.quarkiverse.langchain4j.llama3.copy.Sampler;
+import io.quarkiverse.langchain4j.llama3.copy.TestModels;
+
+class Llama3PromptCacheTest {
+
+    private static final int BATCH_SIZE = 4;
+
+    private final Llama model = TestModels.tinyModel(64);
+
+    @Test
+    void resumesFromTheLongestCachedPrefix() {
+        Llama3PromptCache cache = cacheWithEntries(4);
+        Llama3PromptCache.Lease shortPrefix = cache.acquire(List.of(1, 2, 9));
+        Llama3PromptCache.Lease longPrefix = cache.acquire(List.of(1, 2, 3, 4));
+        cache.release(shortPrefix, List.of(1, 2, 9), List.of());
+        cache.release(longPrefix, List.of(1, 2, 3, 4), List.of(5, 6));
+
+        Llama3PromptCache.Lease lease = cache.acquire(List.of(1, 2, 3, 4, 5, 7));
+
+        assertThat(lease.state()).isSameAs(longPrefix.state());
+        // the last generated token was not fed to the model, so only the prompt and the first generated token are cached
+        assertThat(lease.startPosition()).isEqualTo(5);
+        assertThat(cache.hits()).isEqualTo(1);
+        assertThat(cache.misses()).isEqualTo(2);
+        assertThat(cache.savedPrefillTokens()).isEqualTo(5);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void ingestsAtLeastTheLastPromptToken() {
+        Llama3PromptCache cache = cacheWithEntries(2);
+        Llama3PromptCache.Lease first = cache.acquire(List.of(1, 2, 3));
+        cache.release(first, List.of(1, 2, 3), List.of(4, 5));
+
+        Llama3PromptCache.Lease samePrompt = cache.acquire(List.of(1, 2, 3));
+        assertThat(samePrompt.state()).isSameAs(first.state());
+        assertThat(samePrompt.startPosition()).isEqualTo(2);
+        cache.release(samePrompt, List.of(1, 2, 3), List.of(4, 5));
+
+        Llama3PromptCache.Lease shorterPrompt = cache.acquire(List.of(1, 2));
+        assertThat(shorterPrompt.state()).isSameAs(first.state());
+        assertThat(shorterPrompt.startPosition()).isEqualTo(1);
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsedEntriesBeyondMaxEntries() {
+        Llama3PromptCache cache = cacheWithEntries(2);
+        List<Llama3PromptCache.Lease> leases = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            List<Integer> prompt = List.of(10 * (i + 1), 1, 2);
+            Llama3PromptCache.Lease lease = cache.acquire(prompt);
+            cache.release(lease, prompt, List.of(3));
+            leases.add(lease);
+        }
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.evictions()).isEqualTo(1);
+
+        Llama3PromptCache.Lease evicted = cache.acquire(List.of(10, 1, 2));
+        assertThat(evicted.startPosition()).isZero();
+        assertThat(evicted.state()).isNotSameAs(leases.get(0).state());
+        Llama3PromptCache.Lease kept = cache.acquire(List.of(20, 1, 2));
+        assertThat(kept.startPosition()).isEqualTo(2);
+        assertThat(kept.state()).isSameAs(leases.get(1).state());
+    }
+
+    @Test
+    void generatesTheSameTokensOnACacheHit() {
+        Llama3PromptCache cache = cacheWithEntries(2);
+        List<Integer> firstPrompt = List.of(TestModels.BEGIN_OF_TEXT, 1, 2, 3, 4, 5);
+        Llama3PromptCache.Lease first = cache.acquire(firstPrompt);
+        List<Integer> firstResponse = generate(first, firstPrompt, 16);
+        cache.release(first, firstPrompt, firstResponse);
+
+        // the next turn of the conversation starts with the previous prompt and response
+        List<Integer> secondPrompt = new ArrayList<>(firstPrompt);
+        secondPrompt.addAll(firstResponse);
+        secondPrompt.addAll(List.of(6, 7, 8));
+        Llama3PromptCache.Lease second = cache.acquire(secondPrompt);
+        assertThat(second.startPosition()).isEqualTo(firstPrompt.size() + firstResponse.size() - 1);
+
+        List<Integer> expected = Llama.generateTokens(model, model.createNewState(BATCH_SIZE), 0, secondPrompt, Set.of(),
+                48, Sampler.ARGMAX, false, null);
+        assertThat(generate(second, secondPrompt, 48)).isEqualTo(expected);
+    }
+
+    /**
+     * Generates tokens the way {@link Llama3ChatModel} does, until the given position is reached.
+     */
+    private List<Integer> generate(Llama3PromptCache.Lease lease, List<Integer> promptTokens, int maxPosition) {
+        List<Integer> remainingPromptTokens = promptTokens.subList(lease.startPosition(), promptTokens.size());
+        return Llama.generateTokens(model, lease.state(), lease.startPosition(), remainingPromptTokens, Set.of(),
+                maxPosition, Sampler.ARGMAX, false, null);
+    }
+
+    private Llama3PromptCache cacheWithEntries(int maxEntries) {
+        long stateSize = Llama3PromptCache.estimateStateSize(model.configuration(), BATCH_SIZE);
+        Llama3PromptCache cache = Llama3PromptCache.create(model, BATCH_SIZE, maxEntries * stateSize, null);
+        assertThat(cache.maxEntries()).isEqualTo(maxEntries);
+        return cache;
+    }
+}
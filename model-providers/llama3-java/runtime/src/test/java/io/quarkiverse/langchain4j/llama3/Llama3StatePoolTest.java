@@ -0,0 +1,95 @@
+package io.quarkiverse.langchain4j.llama3;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkiverse.langchain4j.llama3.copy.Llama;
+import io.quarkiverse.langchain4j.llama3.copy.TestModels;
+
+class Llama3StatePoolTest {
+
+    private static final int BATCH_SIZE = 4;
+
+    private final Llama model = TestModels.tinyModel(64);
+
+    @Test
+    void waitingRequestTakesTheStateReleasedIntoTheCache() throws Exception {
+        Llama3StatePool pool = Llama3StatePool.create(model, BATCH_SIZE, 1);
+        Llama3PromptCache cache = cacheWithEntries(2, pool);
+
+        List<Integer> first = List.of(1, 2, 3);
+        Llama3PromptCache.Lease lease = cache.acquire(first);
+
+        CompletableFuture<Llama3PromptCache.Lease> second = CompletableFuture.supplyAsync(() -> cache.acquire(List.of(4, 5)));
+        await().atMost(Duration.ofSeconds(10)).until(() -> pool.waiting() == 1);
+
+        cache.release(lease, first, List.of(6));
+
+        Llama3PromptCache.Lease secondLease = second.get(10, TimeUnit.SECONDS);
+        assertThat(secondLease.state()).isSameAs(lease.state());
+        assertThat(secondLease.startPosition()).isZero();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.evictions()).isEqualTo(1);
+        assertThat(pool.size()).isEqualTo(1);
+    }
+
+    @Test
+    void requestsRunBackToBackWithFewerStatesThanCacheEntries() throws Exception {
+        Llama3StatePool pool = Llama3StatePool.create(model, BATCH_SIZE, 1);
+        Llama3PromptCache cache = cacheWithEntries(4, pool);
+
+        for (int i = 0; i < 3; i++) {
+            List<Integer> prompt = List.of(10 + i, 11 + i);
+            Llama3PromptCache.Lease lease = CompletableFuture.supplyAsync(() -> cache.acquire(prompt))
+                    .get(10, TimeUnit.SECONDS);
+            assertThat(lease.startPosition()).isZero();
+            cache.release(lease, prompt, List.of(20));
+        }
+
+        assertThat(pool.size()).isEqualTo(1);
+        assertThat(pool.waits()).isZero();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void emptyLeaseIsReturnedToThePool() {
+        Llama3StatePool pool = Llama3StatePool.create(model, BATCH_SIZE, 1);
+        Llama3PromptCache cache = cacheWithEntries(2, pool);
+
+        Llama3PromptCache.Lease lease = cache.acquire(List.of(1));
+        assertThat(pool.inUse()).isEqualTo(1);
+
+        cache.release(lease, List.of(), List.of());
+
+        assertThat(cache.size()).isZero();
+        assertThat(pool.inUse()).isZero();
+        assertThat(pool.tryBorrow()).isSameAs(lease.state());
+    }
+
+    @Test
+    void releasedStateWakesUpWaitingRequest() throws Exception {
+        Llama3StatePool pool = Llama3StatePool.create(model, BATCH_SIZE, 1);
+        Llama.State state = pool.borrow();
+
+        CompletableFuture<Llama.State> waiting = CompletableFuture.supplyAsync(pool::borrow);
+        await().atMost(Duration.ofSeconds(10)).until(() -> pool.waiting() == 1);
+        pool.release(state);
+
+        assertThat(waiting.get(10, TimeUnit.SECONDS)).isSameAs(state);
+        assertThat(pool.waits()).isEqualTo(1);
+    }
+
+    private Llama3PromptCache cacheWithEntries(int maxEntries, Llama3StatePool pool) {
+        long stateSize = Llama3PromptCache.estimateStateSize(model.configuration(), BATCH_SIZE);
+        Llama3PromptCache cache = Llama3PromptCache.create(model, BATCH_SIZE, maxEntries * stateSize, pool);
+        assertThat(cache.maxEntries()).isEqualTo(maxEntries);
+        return cache;
+    }
+}
@@ -0,0 +1,44 @@
+package io.quarkiverse.langchain4j.llama3.copy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.Test;
+
+class LlamaForwardBatchTest {
+
+    private final Llama model = TestModels.tinyModel(64);
+
+    @Test
+    void batchedForwardComputesTheSameLogitsAsSequentialForwards() {
+        int[][] prompts = { { 1, 2, 3, 4, 5 }, { 6, 7 }, { 8, 9, 10 } };
+        int sequences = prompts.length;
+        Llama.State[] sequential = new Llama.State[sequences];
+        Llama.State[] batched = new Llama.State[sequences];
+        int[] positions = new int[sequences];
+        for (int i = 0; i < sequences; i++) {
+            sequential[i] = model.createNewState(8);
+            batched[i] = model.createNewState(8);
+            Llama.ingest(model, sequential[i], prompts[i], 0, false);
+            Llama.ingest(model, batched[i], prompts[i], 0, false);
+            positions[i] = prompts[i].length;
+        }
+        Llama.State batch = model.createBatchState(sequences);
+
+        // two steps, so that the second one reads the keys and values stored by the batched forward pass
+        for (int step = 0; step < 2; step++) {
+            int[] tokens = new int[sequences];
+            for (int i = 0; i < sequences; i++) {
+                tokens[i] = 11 + i + step;
+                Llama.forward(model, sequential[i], new int[] { tokens[i] }, positions[i], true);
+            }
+            Llama.forwardBatch(model, batch, batched, tokens, positions);
+
+            for (int i = 0; i < sequences; i++) {
+                assertThat(TestModels.logits(batched[i]))
+                        .containsExactly(TestModels.logits(sequential[i]), within(1e-4f));
+                positions[i]++;
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package io.quarkiverse.langchain4j.llama3.copy;
+
+import java.nio.FloatBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Builds tiny models with random weights, small enough for the tests to run the actual inference code.
+ */
+public final class TestModels {
+
+    public static final int BEGIN_OF_TEXT = 0;
+    public static final int VOCABULARY_SIZE = 32;
+
+    private TestModels() {
+    }
+
+    public static Llama tinyModel(int contextLength) {
+        Llama.Configuration config = new Llama.Configuration(16, 32, 2, 4, 2, VOCABULARY_SIZE, contextLength, 1e-5f,
+                10_000f);
+        Random random = new Random(42);
+        int layers = config.numberOfLayers;
+        int kvDim = (config.dim * config.numberOfKeyValueHeads) / config.numberOfHeads;
+        Pair<float[], float[]> ropeFreqs = RoPE.precomputeFreqsCis(config.contextLength, config.headSize,
+                config.ropeTheta, false, 0, 0, 0, 0);
+        Llama.Weights weights = new Llama.Weights(
+                tensor(random, config.vocabularySize * config.dim),
+                buffers(random, layers, config.dim),
+                tensors(random, layers, config.dim * config.dim),
+                tensors(random, layers, kvDim * config.dim),
+                tensors(random, layers, kvDim * config.dim),
+                tensors(random, layers, config.dim * config.dim),
+                buffers(random, layers, config.dim),
+                tensors(random, layers, config.hiddenDim * config.dim),
+                tensors(random, layers, config.dim * config.hiddenDim),
+                tensors(random, layers, config.hiddenDim * config.dim),
+                buffer(random, config.dim),
+                FloatBuffer.wrap(ropeFreqs.first()),
+                FloatBuffer.wrap(ropeFreqs.second()),
+                tensor(random, config.vocabularySize * config.dim));
+        String[] tokens = IntStream.range(0, config.vocabularySize).mapToObj(i -> "<" + i + ">").toArray(String[]::new);
+        tokens[BEGIN_OF_TEXT] = "<|begin_of_text|>";
+        Tokenizer tokenizer = new Tokenizer(new Vocabulary(tokens, null), List.of(), null,
+                Map.of("<|begin_of_text|>", BEGIN_OF_TEXT));
+        return new Llama(config, tokenizer, weights);
+    }
+
+    /**
+     * @return a copy of the logits computed by the latest forward pass of the given state
+     */
+    public static float[] logits(Llama.State state) {
+        float[] logits = new float[state.logits.size()];
+        for (int i = 0; i < logits.length; i++) {
+            logits[i] = state.logits.getFloat(i);
+        }
+        return logits;
+    }
+
+    private static FloatTensor tensor(Random random, int size) {
+        float[] values = new float[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextFloat() - 0.5f;
+        }
+        return new ArrayFloatTensor(values);
+    }
+
+    private static FloatTensor[] tensors(Random random, int count, int size) {
+        return IntStream.range(0, count).mapToObj(i -> tensor(random, size)).toArray(FloatTensor[]::new);
+    }
+
+    private static FloatBuffer buffer(Random random, int size) {
+        float[] values = new float[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = 0.5f + random.nextFloat();
+        }
+        return FloatBuffer.wrap(values);
+    }
+
+    private static FloatBuffer[] buffers(Random random, int count, int size) {
+        return IntStream.range(0, count).mapToObj(i -> buffer(random, size)).toArray(FloatBuffer[]::new);
+    }
+}
@@ -50,6 +50,10 @@ public class OllamaClient {
         }
     }
 
+    OllamaClient(OllamaRestApi restApi) {
+        this.restApi = restApi;
+    }
+
     public ChatResponse chat(ChatRequest request) {
         return restApi.chat(request);
     }
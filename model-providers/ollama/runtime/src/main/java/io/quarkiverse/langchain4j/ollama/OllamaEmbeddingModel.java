@@ -3,21 +3,44 @@ package io.quarkiverse.langchain4j.ollama;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 
 public class OllamaEmbeddingModel implements EmbeddingModel {
 
     private final OllamaClient client;
     private final String model;
+    private final int batchSize;
+    private final int maxConcurrentRequests;
+    private final Executor executor;
 
     private OllamaEmbeddingModel(Builder builder) {
-        client = new OllamaClient(builder.baseUrl, builder.timeout, builder.logRequests, builder.logResponses,
-                false, builder.configName, builder.tlsConfigurationName);
-        model = builder.model;
+        this(new OllamaClient(builder.baseUrl, builder.timeout, builder.logRequests, builder.logResponses,
+                false, builder.configName, builder.tlsConfigurationName), builder.model, builder.batchSize,
+                builder.maxConcurrentRequests, Infrastructure.getDefaultWorkerPool());
+    }
+
+    OllamaEmbeddingModel(OllamaClient client, String model, int batchSize, int maxConcurrentRequests, Executor executor) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be greater than 0");
+        }
+        if (maxConcurrentRequests < 1) {
+            throw new IllegalArgumentException("maxConcurrentRequests must be greater than 0");
+        }
+        this.client = client;
+        this.model = model;
+        this.batchSize = batchSize;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.executor = executor;
     }
 
     public static Builder builder() {
@@ -26,22 +49,87 @@ public class OllamaEmbeddingModel implements EmbeddingModel {
 
     @Override
     public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
-        List<Embedding> embeddings = new ArrayList<>();
+        List<List<String>> batches = new ArrayList<>((textSegments.size() + batchSize - 1) / batchSize);
+        for (int i = 0; i < textSegments.size(); i += batchSize) {
+            List<TextSegment> segments = textSegments.subList(i, Math.min(i + batchSize, textSegments.size()));
+            List<String> batch = new ArrayList<>(segments.size());
+            for (TextSegment segment : segments) {
+                batch.add(segment.text());
+            }
+            batches.add(batch);
+        }
 
-        textSegments.forEach(textSegment -> {
-            EmbeddingRequest request = EmbeddingRequest.builder()
-                    .model(model)
-                    .input(textSegment.text())
-                    .build();
+        List<Embedding> embeddings = new ArrayList<>(textSegments.size());
+        if (maxConcurrentRequests == 1 || batches.size() < 2) {
+            for (List<String> batch : batches) {
+                embeddings.addAll(embed(batch));
+            }
+        } else {
+            for (List<Embedding> batchEmbeddings : embedConcurrently(batches)) {
+                embeddings.addAll(batchEmbeddings);
+            }
+        }
+        return Response.from(embeddings);
+    }
 
-            EmbeddingResponse response = client.embedding(request);
+    /**
+     * Sends the requests of the batches from the executor, with at most {@code maxConcurrentRequests} of them in flight,
+     * and returns their results in the order of the batches.
+     */
+    private List<List<Embedding>> embedConcurrently(List<List<String>> batches) {
+        Semaphore permits = new Semaphore(maxConcurrentRequests);
+        AtomicBoolean failed = new AtomicBoolean();
+        List<CompletableFuture<List<Embedding>>> futures = new ArrayList<>(batches.size());
+        for (List<String> batch : batches) {
+            permits.acquireUninterruptibly();
+            if (failed.get()) {
+                // don't send more requests, the failure is reported below
+                break;
+            }
+            CompletableFuture<List<Embedding>> future = CompletableFuture.supplyAsync(() -> embed(batch), executor);
+            future.whenComplete((r, t) -> {
+                if (t != null) {
+                    failed.set(true);
+                }
+                permits.release();
+            });
+            futures.add(future);
+        }
 
-            for (float[] embedding : response.getEmbeddings()) {
-                embeddings.add(Embedding.from(embedding));
+        List<List<Embedding>> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<List<Embedding>> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException re) {
+                    throw re;
+                }
+                throw e;
             }
-        });
+        }
+        return results;
+    }
 
-        return Response.from(embeddings);
+    private List<Embedding> embed(List<String> batch) {
+        EmbeddingRequest request = EmbeddingRequest.builder()
+                .model(model)
+                .input(batch)
+                .build();
+
+        EmbeddingResponse response = client.embedding(request);
+
+        // the embeddings are matched to the segments by position, a missing one would shift all the following ones
+        float[][] vectors = response.getEmbeddings();
+        int count = vectors != null ? vectors.length : 0;
+        if (count != batch.size()) {
+            throw new IllegalStateException("Ollama returned " + count + " embeddings for a batch of " + batch.size()
+                    + " inputs using model '" + model + "'");
+        }
+        List<Embedding> embeddings = new ArrayList<>(batch.size());
+        for (float[] embedding : vectors) {
+            embeddings.add(Embedding.from(embedding));
+        }
+        return embeddings;
     }
 
     public static final class Builder {
@@ -49,6 +137,8 @@ public class OllamaEmbeddingModel implements EmbeddingModel {
         private String tlsConfigurationName;
         private Duration timeout = Duration.ofSeconds(10);
         private String model;
+        private int batchSize = 32;
+        private int maxConcurrentRequests = 1;
 
         private boolean logRequests = false;
         private boolean logResponses = false;
@@ -77,6 +167,16 @@ public class OllamaEmbeddingModel implements EmbeddingModel {
             return this;
         }
 
+        public Builder batchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public Builder maxConcurrentRequests(int maxConcurrentRequests) {
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            return this;
+        }
+
         public Builder logRequests(boolean logRequests) {
             this.logRequests = logRequests;
             return this;
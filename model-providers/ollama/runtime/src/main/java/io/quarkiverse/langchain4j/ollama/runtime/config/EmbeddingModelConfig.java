@@ -42,6 +42,18 @@ public interface EmbeddingModelConfig {
     @WithDefault("40")
     Integer topK();
 
+    /**
+     * Maximum number of text segments sent to Ollama in a single embedding request when embedding several segments
+     */
+    @WithDefault("32")
+    Integer batchSize();
+
+    /**
+     * Maximum number of embedding requests sent concurrently when embedding more segments than fit in a single request
+     */
+    @WithDefault("1")
+    Integer maxConcurrentRequests();
+
     /**
      * Whether embedding model requests should be logged
      */
@@ -0,0 +1,91 @@
+package io.quarkiverse.langchain4j.ollama;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+
+class OllamaEmbeddingModelTest {
+
+    private OllamaRestApi restApi;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        restApi = mock(OllamaRestApi.class);
+        // each input is embedded as a single value: its index in the segments
+        doAnswer(invocation -> {
+            EmbeddingRequest request = invocation.getArgument(0);
+            float[][] embeddings = request.getInput().stream()
+                    .map(input -> new float[] { Float.parseFloat(input) })
+                    .toArray(float[][]::new);
+            return EmbeddingResponse.builder().embeddings(embeddings).build();
+        }).when(restApi).embeddings(any());
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void sendsOneRequestPerBatch() {
+        OllamaEmbeddingModel model = new OllamaEmbeddingModel(new OllamaClient(restApi), "test", 10, 1, executor);
+
+        List<Embedding> embeddings = model.embedAll(segments(25)).content();
+
+        verify(restApi, times(3)).embeddings(any());
+        assertOrdered(embeddings, 25);
+    }
+
+    @Test
+    void keepsOrderOfConcurrentBatches() {
+        OllamaEmbeddingModel model = new OllamaEmbeddingModel(new OllamaClient(restApi), "test", 7, 3, executor);
+
+        List<Embedding> embeddings = model.embedAll(segments(100)).content();
+
+        verify(restApi, times(15)).embeddings(any());
+        assertOrdered(embeddings, 100);
+    }
+
+    @Test
+    void reportsFailureOfConcurrentBatch() {
+        doThrow(new IllegalStateException("boom")).when(restApi)
+                .embeddings(argThat(request -> request.getInput().contains("42")));
+        OllamaEmbeddingModel model = new OllamaEmbeddingModel(new OllamaClient(restApi), "test", 5, 2, executor);
+
+        assertThrows(IllegalStateException.class, () -> model.embedAll(segments(100)));
+    }
+
+    @Test
+    void rejectsMissingEmbeddings() {
+        doReturn(EmbeddingResponse.builder().embeddings(new float[][] { { 0 }, { 1 } }).build()).when(restApi)
+                .embeddings(any());
+        OllamaEmbeddingModel model = new OllamaEmbeddingModel(new OllamaClient(restApi), "test", 3, 1, executor);
+
+        assertThrows(IllegalStateException.class, () -> model.embedAll(segments(3)));
+    }
+
+    private static List<TextSegment> segments(int count) {
+        return IntStream.range(0, count).mapToObj(i -> TextSegment.from(String.valueOf(i))).toList();
+    }
+
+    private static void assertOrdered(List<Embedding> embeddings, int count) {
+        assertEquals(count, embeddings.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, embeddings.get(i).vector()[0]);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.quarkiverse.langchain4j.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.langchain4j.test.EasyRagIncrementalIngestionTest.PersistentEmbeddingStore;
+import io.quarkus.test.QuarkusUnitTest;
+
+class EasyRagIncrementalIngestionConfigChangeTest {
+
+    private static final Path DOCUMENTS_DIR = Path.of("src", "test", "resources", "ragdocuments");
+    private static final Path MANIFEST_FILE = Path.of("target", "easy-rag-incremental-config-change", "manifest.json");
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(PersistentEmbeddingStore.class)
+                    .addAsResource(new StringAsset("""
+                            quarkus.langchain4j.easy-rag.path=src/test/resources/ragdocuments
+                            quarkus.langchain4j.easy-rag.incremental.enabled=true
+                            quarkus.langchain4j.easy-rag.incremental.manifest-file=%s
+                            """.formatted(previousManifest())),
+                            "application.properties"));
+
+    /**
+     * Simulates a previous ingestion of charlie.pdf, which did not change since then, with a larger maximum segment
+     * size.
+     */
+    private static Path previousManifest() {
+        Path charlie = DOCUMENTS_DIR.resolve("charlie.pdf").toAbsolutePath().normalize();
+        try {
+            String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(charlie)));
+            Files.createDirectories(MANIFEST_FILE.getParent());
+            Files.writeString(MANIFEST_FILE, """
+                    {
+                      "fingerprint": "%s",
+                      "files": {
+                        "%s": { "hash": "%s", "segmentIds": ["charlie-segment"] }
+                      }
+                    }
+                    """.formatted(EasyRagIncrementalIngestionTest.fingerprint().replace("=300;", "=500;"),
+                    charlie.toString().replace("\\", "\\\\"), hash));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        return MANIFEST_FILE.toAbsolutePath();
+    }
+
+    @Test
+    void unchangedFilesAreIngestedAgain() throws IOException {
+        // charlie.pdf was split differently, its previous segments are obsolete
+        assertThat(PersistentEmbeddingStore.REMOVED_IDS).containsExactly("charlie-segment");
+
+        assertThat(Files.readString(MANIFEST_FILE))
+                .contains(EasyRagIncrementalIngestionTest.fingerprint())
+                .contains("charlie.pdf")
+                .contains("david.odt")
+                .doesNotContain("charlie-segment");
+    }
+}
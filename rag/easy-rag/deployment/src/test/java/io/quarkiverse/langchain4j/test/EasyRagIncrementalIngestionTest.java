@@ -0,0 +1,164 @@
+package io.quarkiverse.langchain4j.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.LogRecord;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.bgesmallenv15q.BgeSmallEnV15QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+import io.quarkus.test.QuarkusUnitTest;
+
+class EasyRagIncrementalIngestionTest {
+
+    private static final Path DOCUMENTS_DIR = Path.of("src", "test", "resources", "ragdocuments");
+    private static final Path MANIFEST_FILE = Path.of("target", "easy-rag-incremental", "manifest.json");
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(PersistentEmbeddingStore.class)
+                    .addAsResource(new StringAsset("""
+                            quarkus.langchain4j.easy-rag.path=src/test/resources/ragdocuments
+                            quarkus.langchain4j.easy-rag.ingestion-threads=2
+                            quarkus.langchain4j.easy-rag.incremental.enabled=true
+                            quarkus.langchain4j.easy-rag.incremental.manifest-file=%s
+                            """.formatted(previousManifest())),
+                            "application.properties"))
+            .setLogRecordPredicate(record -> true)
+            .assertLogRecords(EasyRagIncrementalIngestionTest::verifyLogRecords);
+
+    /**
+     * Simulates a previous ingestion, with the same configuration, of charlie.pdf, which did not change since then, and
+     * of a file that was deleted since then.
+     */
+    private static Path previousManifest() {
+        Path charlie = DOCUMENTS_DIR.resolve("charlie.pdf").toAbsolutePath().normalize();
+        try {
+            String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(charlie)));
+            Files.createDirectories(MANIFEST_FILE.getParent());
+            Files.writeString(MANIFEST_FILE, """
+                    {
+                      "fingerprint": "%s",
+                      "files": {
+                        "%s": { "hash": "%s", "segmentIds": ["charlie-segment"] },
+                        "/deleted/document.txt": { "hash": "0000", "segmentIds": ["deleted-segment"] }
+                      }
+                    }
+                    """.formatted(fingerprint(), charlie.toString().replace("\\", "\\\\"), hash));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        return MANIFEST_FILE.toAbsolutePath();
+    }
+
+    /**
+     * The fingerprint of the default splitting configuration with the in-process embedding model
+     */
+    static String fingerprint() {
+        return "embedding-model=" + BgeSmallEnV15QuantizedEmbeddingModel.class.getName() + ":"
+                + new BgeSmallEnV15QuantizedEmbeddingModel().modelName()
+                + ";max-segment-size=300;max-overlap-size=30";
+    }
+
+    private static void verifyLogRecords(List<LogRecord> logRecords) {
+        assertThat(logRecords.stream().map(LogRecord::getMessage))
+                .contains("Ingested 1 files as 1 documents")
+                .contains("Incremental ingestion skipped %d unchanged files and removed the segments of %d deleted files");
+    }
+
+    @ApplicationScoped
+    public static class PersistentEmbeddingStore implements EmbeddingStore<TextSegment> {
+
+        static final List<String> REMOVED_IDS = new CopyOnWriteArrayList<>();
+
+        private final InMemoryEmbeddingStore<TextSegment> delegate = new InMemoryEmbeddingStore<>();
+
+        @Override
+        public String add(Embedding embedding) {
+            return delegate.add(embedding);
+        }
+
+        @Override
+        public void add(String id, Embedding embedding) {
+            delegate.add(id, embedding);
+        }
+
+        @Override
+        public String add(Embedding embedding, TextSegment embedded) {
+            return delegate.add(embedding, embedded);
+        }
+
+        @Override
+        public List<String> addAll(List<Embedding> embeddings) {
+            return delegate.addAll(embeddings);
+        }
+
+        @Override
+        public void addAll(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
+            delegate.addAll(ids, embeddings, embedded);
+        }
+
+        @Override
+        public void removeAll(Collection<String> ids) {
+            REMOVED_IDS.addAll(ids);
+            delegate.removeAll(ids);
+        }
+
+        @Override
+        public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
+            return delegate.search(request);
+        }
+    }
+
+    @Inject
+    EmbeddingModel embeddingModel;
+
+    @Inject
+    EmbeddingStore<TextSegment> embeddingStore;
+
+    @Test
+    void onlyChangedFilesAreIngested() throws IOException {
+        assertThat(PersistentEmbeddingStore.REMOVED_IDS).containsExactly("deleted-segment");
+
+        Embedding question = embeddingModel.embed("When was David born?").content();
+        List<String> texts = new ArrayList<>();
+        embeddingStore.search(EmbeddingSearchRequest.builder().queryEmbedding(question).maxResults(5).build())
+                .matches().forEach(match -> texts.add(match.embedded().text()));
+        // charlie.pdf was not re-ingested as it did not change
+        assertThat(texts).hasSize(1);
+        assertThat(texts.get(0)).contains("2003");
+
+        assertThat(Files.readString(MANIFEST_FILE))
+                .contains("david.odt")
+                .contains("charlie-segment")
+                .doesNotContain("deleted-segment");
+    }
+}
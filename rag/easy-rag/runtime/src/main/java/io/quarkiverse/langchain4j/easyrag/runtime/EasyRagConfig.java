@@ -3,6 +3,7 @@ package io.quarkiverse.langchain4j.easyrag.runtime;
 import static io.quarkus.runtime.annotations.ConfigPhase.RUN_TIME;
 
 import java.util.OptionalDouble;
+import java.util.OptionalInt;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -89,6 +90,18 @@ public interface EasyRagConfig {
     @WithDefault("ON")
     IngestionStrategy ingestionStrategy();
 
+    /**
+     * The number of documents that are parsed, split and embedded concurrently during the ingestion.
+     * Only these documents are held in memory, whatever the number of files to ingest.
+     * Defaults to the number of available processors.
+     */
+    OptionalInt ingestionThreads();
+
+    /**
+     * Configuration related to the incremental ingestion of documents.
+     */
+    IncrementalIngestionConfig incremental();
+
     /**
      * Configuration related to the reusing of embeddings.
      * <p>
@@ -115,4 +128,26 @@ public interface EasyRagConfig {
         @WithDefault("easy-rag-embeddings.json")
         String file();
     }
+
+    @ConfigGroup
+    interface IncrementalIngestionConfig {
+        /**
+         * Whether to only ingest the files that were added or changed since the previous ingestion, and to remove the
+         * segments of the files that were deleted since then, instead of ingesting all the files on every startup.
+         * <p>
+         * This requires an embedding store that persists the segments across restarts and supports removing them by
+         * ID. With the in-memory embedding store, it is only used when
+         * {@code quarkus.langchain4j.easy-rag.reuse-embeddings.enabled} is {@code true}.
+         * </p>
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The file recording the hash of the ingested files and the IDs of their segments.
+         * Delete this file to force the ingestion of all the files, for example after the embedding store was emptied.
+         */
+        @WithDefault("easy-rag-manifest.json")
+        String manifestFile();
+    }
 }
@@ -1,11 +1,29 @@
 package io.quarkiverse.langchain4j.easyrag.runtime;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import org.jboss.logging.Logger;
 
@@ -14,12 +32,13 @@ import dev.langchain4j.data.document.DocumentSplitter;
 import dev.langchain4j.data.document.loader.ClassPathDocumentLoader;
 import dev.langchain4j.data.document.loader.FileSystemDocumentLoader;
 import dev.langchain4j.data.document.splitter.DocumentSplitters;
+import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.embedding.onnx.HuggingFaceTokenCountEstimator;
 import dev.langchain4j.store.embedding.EmbeddingStore;
-import dev.langchain4j.store.embedding.EmbeddingStoreIngestor;
 import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+import io.quarkus.arc.ClientProxy;
 
 public class EasyRagIngestor {
     private static final Logger LOGGER = Logger.getLogger(EasyRagIngestor.class);
@@ -51,9 +70,16 @@ public class EasyRagIngestor {
                     throw new RuntimeException(ex);
                 }
 
-                ingestDocumentsFromFilesystem(config, embeddingStore, embeddingModel);
+                // a manifest left by a previous run describes embeddings that are not in the store
+                ingestDocumentsFromFilesystem(config, embeddingStore, embeddingModel,
+                        config.incremental().enabled() ? EasyRagManifest.empty() : null);
                 LOGGER.infof("Writing embeddings to %s", embeddingsFile);
                 ((InMemoryEmbeddingStore<TextSegment>) embeddingStore).serializeToFile(embeddingsFile);
+            } else if (config.incremental().enabled()) {
+                if (ingestDocumentsFromFilesystem(config, embeddingStore, embeddingModel, readManifest(config))) {
+                    LOGGER.infof("Writing embeddings to %s", embeddingsFile);
+                    ((InMemoryEmbeddingStore<TextSegment>) embeddingStore).serializeToFile(embeddingsFile);
+                }
             } else {
                 // This is here because in the case where the file exists, the EmbeddingStore will be
                 // lazily initialized upon first use. We want it eagerly initialized.
@@ -61,28 +87,29 @@ public class EasyRagIngestor {
                 // https://github.com/quarkusio/quarkus/issues/41159 may make this less "hacky" in the future
                 embeddingStore.toString();
             }
+        } else if (config.incremental().enabled() && (embeddingStore instanceof InMemoryEmbeddingStore<TextSegment>)) {
+            LOGGER.warn("Ignoring quarkus.langchain4j.easy-rag.incremental.enabled because the in-memory embedding store "
+                    + "does not keep the embeddings across restarts, "
+                    + "enable quarkus.langchain4j.easy-rag.reuse-embeddings.enabled to persist them");
+            ingestDocumentsFromFilesystem(config, embeddingStore, embeddingModel, null);
         } else {
-            ingestDocumentsFromFilesystem(config, embeddingStore, embeddingModel);
+            ingestDocumentsFromFilesystem(config, embeddingStore, embeddingModel,
+                    config.incremental().enabled() ? readManifest(config) : null);
         }
     }
 
-    private List<Document> getDocuments(EasyRagConfig config) {
-        PathMatcher pathMatcher = FileSystems.getDefault().getPathMatcher(config.pathMatcher());
-        boolean recursive = config.recursive();
-
-        return switch (config.pathType()) {
-            case CLASSPATH -> recursive
-                    ? ClassPathDocumentLoader.loadDocumentsRecursively(config.path(), pathMatcher)
-                    : ClassPathDocumentLoader.loadDocuments(config.path(), pathMatcher);
-
-            case FILESYSTEM -> recursive
-                    ? FileSystemDocumentLoader.loadDocumentsRecursively(config.path(), pathMatcher)
-                    : FileSystemDocumentLoader.loadDocuments(config.path(), pathMatcher);
-        };
+    private static EasyRagManifest readManifest(EasyRagConfig config) {
+        return EasyRagManifest.read(Path.of(config.incremental().manifestFile()).toAbsolutePath());
     }
 
-    private void ingestDocumentsFromFilesystem(EasyRagConfig config, EmbeddingStore<TextSegment> embeddingStore,
-            EmbeddingModel embeddingModel) {
+    /**
+     * Parses, splits and embeds the documents, a bounded number of them at a time.
+     *
+     * @param manifest the manifest of the previous ingestion, or {@code null} to ingest all the documents
+     * @return whether the content of the embedding store changed
+     */
+    private boolean ingestDocumentsFromFilesystem(EasyRagConfig config, EmbeddingStore<TextSegment> embeddingStore,
+            EmbeddingModel embeddingModel, EasyRagManifest manifest) {
 
         var msg = "Ingesting documents from %s: %s, path matcher = %s, recursive = %s".formatted(
                 config.pathType().name().toLowerCase(),
@@ -91,22 +118,273 @@ public class EasyRagIngestor {
                 config.recursive());
         LOGGER.info(msg);
 
-        List<Document> documents = getDocuments(config);
-        DocumentSplitter documentSplitter = DocumentSplitters.recursive(config.maxSegmentSize(),
-                config.maxOverlapSize(), new HuggingFaceTokenCountEstimator());
+        if (manifest != null) {
+            String fingerprint = fingerprint(config, embeddingModel);
+            if (!fingerprint.equals(manifest.fingerprint())) {
+                if (!manifest.files().isEmpty()) {
+                    LOGGER.infof("The documents were previously ingested with another configuration (%s), "
+                            + "ingesting all of them again", manifest.fingerprint());
+                }
+                manifest.changeFingerprint(fingerprint);
+            }
+        }
+
+        int threads = config.ingestionThreads().orElse(Runtime.getRuntime().availableProcessors());
+        // the splitter relies on a tokenizer, so each thread gets its own
+        ThreadLocal<DocumentSplitter> documentSplitter = ThreadLocal.withInitial(
+                () -> DocumentSplitters.recursive(config.maxSegmentSize(), config.maxOverlapSize(),
+                        new HuggingFaceTokenCountEstimator()));
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(threads, 1), r -> {
+            Thread thread = new Thread(r, "easy-rag-ingestion-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // the workers only look at the previous entries, the manifest itself is updated by this thread
+        Map<String, EasyRagManifest.Entry> previousEntries = manifest != null ? Map.copyOf(manifest.files()) : Map.of();
+        Set<String> seenFiles = new HashSet<>();
+        List<Future<IngestedFile>> futures = new ArrayList<>();
+        boolean incremental = manifest != null;
+        try {
+            for (SourceFile file : getSourceFiles(config)) {
+                seenFiles.add(file.key());
+                futures.add(executor.submit(() -> ingestFile(file, incremental, previousEntries.get(file.key()),
+                        documentSplitter.get(), embeddingStore, embeddingModel)));
+            }
+
+            int files = 0;
+            int segments = 0;
+            int unchanged = 0;
+            RuntimeException failure = null;
+            for (Future<IngestedFile> future : futures) {
+                IngestedFile ingested;
+                try {
+                    ingested = getResult(future);
+                } catch (RuntimeException e) {
+                    // keep collecting the other files so that the manifest records the segments they were stored as
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                    continue;
+                }
+                if (ingested == null) {
+                    continue;
+                }
+                if (ingested.unchanged()) {
+                    unchanged++;
+                    continue;
+                }
+                files++;
+                segments += ingested.entry().segmentIds().size();
+                if (manifest != null) {
+                    manifest.files().put(ingested.key(), ingested.entry());
+                }
+            }
+
+            if (failure != null) {
+                if (manifest != null) {
+                    manifest.write(Path.of(config.incremental().manifestFile()).toAbsolutePath());
+                }
+                throw failure;
+            }
+            LOGGER.info("Ingested " + files + " files as " + segments + " documents");
+            if (manifest == null) {
+                return files > 0;
+            }
 
-        List<Document> splitDocuments = documentSplitter
-                .splitAll(documents)
+            int removed = 0;
+            for (var it = manifest.files().entrySet().iterator(); it.hasNext();) {
+                Map.Entry<String, EasyRagManifest.Entry> entry = it.next();
+                if (!seenFiles.contains(entry.getKey())) {
+                    removeSegments(embeddingStore, entry.getValue().segmentIds());
+                    it.remove();
+                    removed++;
+                }
+            }
+            LOGGER.infof("Incremental ingestion skipped %d unchanged files and removed the segments of %d deleted files",
+                    unchanged, removed);
+            manifest.write(Path.of(config.incremental().manifestFile()).toAbsolutePath());
+            return files > 0 || removed > 0;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Identifies the configuration the segments are produced with: any change of the splitting of the documents or of
+     * the embedding model makes the segments of the previous ingestions obsolete, whether their files changed or not.
+     */
+    private static String fingerprint(EasyRagConfig config, EmbeddingModel embeddingModel) {
+        return "embedding-model=" + ClientProxy.unwrap(embeddingModel).getClass().getName() + ":"
+                + embeddingModel.modelName()
+                + ";max-segment-size=" + config.maxSegmentSize()
+                + ";max-overlap-size=" + config.maxOverlapSize();
+    }
+
+    /**
+     * @param incremental whether the content of the file has to be hashed to detect its changes
+     * @param previous the entry of the file in the manifest of the previous ingestion, if any
+     * @return the result of the ingestion, or {@code null} if the file could not be parsed
+     */
+    private static IngestedFile ingestFile(SourceFile file, boolean incremental, EasyRagManifest.Entry previous,
+            DocumentSplitter documentSplitter, EmbeddingStore<TextSegment> embeddingStore,
+            EmbeddingModel embeddingModel) {
+        String hash = incremental ? file.hash() : null;
+        if (previous != null && previous.hash().equals(hash)) {
+            return new IngestedFile(file.key(), previous, true);
+        }
+
+        Document document = file.load();
+        if (document == null) {
+            return null;
+        }
+        List<TextSegment> segments = documentSplitter.split(document)
                 .stream()
-                .map(split -> Document.document(split.text()))
+                .map(split -> TextSegment.from(split.text()))
                 .toList();
+        List<String> ids = List.of();
+        if (!segments.isEmpty()) {
+            List<Embedding> embeddings = embeddingModel.embedAll(segments).content();
+            ids = embeddingStore.addAll(embeddings, segments);
+        }
+        if (previous != null) {
+            // the file changed, its previous segments are obsolete
+            removeSegments(embeddingStore, previous.segmentIds());
+        }
+        return new IngestedFile(file.key(), new EasyRagManifest.Entry(hash, ids), false);
+    }
+
+    private static void removeSegments(EmbeddingStore<TextSegment> embeddingStore, List<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        try {
+            embeddingStore.removeAll(ids);
+        } catch (UnsupportedOperationException e) {
+            LOGGER.warnf("Unable to remove %d obsolete segments because %s does not support removing embeddings",
+                    ids.size(), embeddingStore.getClass().getName());
+        }
+    }
+
+    private static IngestedFile getResult(Future<IngestedFile> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while ingesting documents", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private List<SourceFile> getSourceFiles(EasyRagConfig config) {
+        PathMatcher pathMatcher = FileSystems.getDefault().getPathMatcher(config.pathMatcher());
+        boolean recursive = config.recursive();
+
+        return switch (config.pathType()) {
+            // the classpath loader has to resolve the resources itself, so the documents are loaded upfront
+            case CLASSPATH -> (recursive
+                    ? ClassPathDocumentLoader.loadDocumentsRecursively(config.path(), pathMatcher)
+                    : ClassPathDocumentLoader.loadDocuments(config.path(), pathMatcher))
+                    .stream()
+                    .map(document -> (SourceFile) new LoadedDocument(document))
+                    .toList();
+
+            // only the paths are listed upfront, each file is read when it gets ingested
+            case FILESYSTEM -> {
+                Path directory = Path.of(config.path());
+                try (Stream<Path> paths = recursive ? Files.walk(directory) : Files.list(directory)) {
+                    yield paths
+                            .filter(Files::isRegularFile)
+                            .filter(path -> pathMatcher.matches(directory.relativize(path)))
+                            .sorted()
+                            .map(path -> (SourceFile) new FileSystemFile(path))
+                            .toList();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private sealed interface SourceFile permits FileSystemFile, LoadedDocument {
 
-        EmbeddingStoreIngestor.builder()
-                .embeddingModel(embeddingModel)
-                .embeddingStore(embeddingStore)
-                .build()
-                .ingest(splitDocuments);
+        /**
+         * Identifies the file in the manifest
+         */
+        String key();
+
+        String hash();
+
+        /**
+         * @return the parsed document, or {@code null} if the file could not be parsed
+         */
+        Document load();
+    }
+
+    private record FileSystemFile(Path path) implements SourceFile {
+
+        @Override
+        public String key() {
+            return path.toAbsolutePath().normalize().toString();
+        }
+
+        @Override
+        public String hash() {
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(Files.newInputStream(path), digest)) {
+                in.transferTo(OutputStream.nullOutputStream());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        }
+
+        @Override
+        public Document load() {
+            try {
+                return FileSystemDocumentLoader.loadDocument(path);
+            } catch (Exception e) {
+                // mirrors FileSystemDocumentLoader.loadDocuments, which skips the files it cannot parse
+                LOGGER.warnf(e, "Failed to load document from %s", path);
+                return null;
+            }
+        }
+    }
+
+    private record LoadedDocument(Document document) implements SourceFile {
+
+        @Override
+        public String key() {
+            return document.metadata().getString(Document.ABSOLUTE_DIRECTORY_PATH) + "/"
+                    + document.metadata().getString(Document.FILE_NAME);
+        }
+
+        @Override
+        public String hash() {
+            return HexFormat.of().formatHex(sha256().digest(document.text().getBytes(StandardCharsets.UTF_8)));
+        }
+
+        @Override
+        public Document load() {
+            return document;
+        }
+    }
 
-        LOGGER.info("Ingested " + documents.size() + " files as " + splitDocuments.size() + " documents");
+    private record IngestedFile(String key, EasyRagManifest.Entry entry, boolean unchanged) {
     }
 }
@@ -0,0 +1,116 @@
+package io.quarkiverse.langchain4j.easyrag.runtime;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Records, for every ingested file, the hash of its content and the IDs of the segments it was split into, so that a
+ * subsequent ingestion only needs to process the files that were added, changed or removed since then.
+ * <p>
+ * It also records the fingerprint of the configuration the segments were produced with (how the documents are split and
+ * which model embeds them), as none of the segments can be kept when it changes.
+ * <p>
+ * The manifest is read and written with the Jackson tree model so that it does not require any reflection.
+ */
+final class EasyRagManifest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String FINGERPRINT = "fingerprint";
+    private static final String FILES = "files";
+    private static final String HASH = "hash";
+    private static final String SEGMENT_IDS = "segmentIds";
+
+    private String fingerprint;
+    private final Map<String, Entry> files;
+
+    private EasyRagManifest(String fingerprint, Map<String, Entry> files) {
+        this.fingerprint = fingerprint;
+        this.files = files;
+    }
+
+    static EasyRagManifest empty() {
+        return new EasyRagManifest(null, new TreeMap<>());
+    }
+
+    /**
+     * @return the manifest stored in the file, or an empty manifest if the file does not exist
+     */
+    static EasyRagManifest read(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return empty();
+        }
+        try {
+            JsonNode root = MAPPER.readTree(file.toFile());
+            Map<String, Entry> files = new TreeMap<>();
+            var it = root.path(FILES).fields();
+            while (it.hasNext()) {
+                var field = it.next();
+                List<String> segmentIds = new ArrayList<>();
+                for (JsonNode id : field.getValue().path(SEGMENT_IDS)) {
+                    segmentIds.add(id.asText());
+                }
+                files.put(field.getKey(), new Entry(field.getValue().path(HASH).asText(), segmentIds));
+            }
+            JsonNode fingerprint = root.path(FINGERPRINT);
+            return new EasyRagManifest(fingerprint.isTextual() ? fingerprint.asText() : null, files);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read the Easy RAG manifest " + file, e);
+        }
+    }
+
+    void write(Path file) {
+        ObjectNode root = MAPPER.createObjectNode();
+        root.put(FINGERPRINT, fingerprint);
+        ObjectNode filesNode = root.putObject(FILES);
+        files.forEach((key, entry) -> {
+            ObjectNode entryNode = filesNode.putObject(key);
+            entryNode.put(HASH, entry.hash());
+            ArrayNode segmentIds = entryNode.putArray(SEGMENT_IDS);
+            entry.segmentIds().forEach(segmentIds::add);
+        });
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            // write the whole manifest before replacing the previous one, so that a crash never leaves a partial file
+            Path tmp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            MAPPER.writerWithDefaultPrettyPrinter().writeValue(tmp.toFile(), root);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write the Easy RAG manifest " + file, e);
+        }
+    }
+
+    String fingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Records that the segments are now produced with another configuration: the files ingested with the previous one
+     * keep their segment IDs, so that these segments get removed, but lose their hash, so that they get ingested again.
+     * The files that fail to be ingested again are thus still considered as changed by the next ingestion.
+     */
+    void changeFingerprint(String fingerprint) {
+        this.fingerprint = fingerprint;
+        files.replaceAll((key, entry) -> new Entry("", entry.segmentIds()));
+    }
+
+    Map<String, Entry> files() {
+        return files;
+    }
+
+    record Entry(String hash, List<String> segmentIds) {
+    }
+}